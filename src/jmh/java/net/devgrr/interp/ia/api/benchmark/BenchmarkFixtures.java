@@ -0,0 +1,223 @@
+package net.devgrr.interp.ia.api.benchmark;
+
+import jakarta.persistence.EntityManager;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import net.devgrr.interp.ia.api.config.issue.IssueStatus;
+import net.devgrr.interp.ia.api.config.issue.IssueType;
+import net.devgrr.interp.ia.api.config.issue.Priority;
+import net.devgrr.interp.ia.api.member.MemberRepository;
+import net.devgrr.interp.ia.api.member.MemberRole;
+import net.devgrr.interp.ia.api.member.entity.Member;
+import net.devgrr.interp.ia.api.work.issue.entity.Issue;
+import net.devgrr.interp.ia.api.work.project.entity.Project;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.data.domain.Limit;
+
+/*
+ * 벤치마크용 데이터 생성
+ * - DB 없이 실행할 수 있도록 엔티티 그래프와 Repository 대체 구현을 메모리에서 구성
+ * */
+public class BenchmarkFixtures {
+
+  // MemberRequest 필드 순서와 동일
+  static final String[] MEMBER_HEADERS = {
+    "email", "name", "password", "department", "job", "position", "phone", "image", "role"
+  };
+
+  public static List<Member> members(int count) {
+    List<Member> members = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      members.add(
+          Member.builder()
+              .id((long) i)
+              .email("member" + i + "@bench.dev")
+              .password("{noop}password")
+              .name("회원" + i)
+              .position("사원")
+              .department("개발팀")
+              .job("백엔드")
+              .phone("010-0000-" + String.format("%04d", i % 10000))
+              .role(MemberRole.USER)
+              .isActive(true)
+              .build());
+    }
+    return members;
+  }
+
+  public static Project project(long id, List<Member> members) {
+    return Project.builder()
+        .id(id)
+        .type(IssueType.PROJECT)
+        .status(IssueStatus.IN_PROGRESS)
+        .priority(Priority.MEDIUM)
+        .title("프로젝트 " + id)
+        .subTitle("벤치마크 프로젝트")
+        .creator(members.get(0))
+        .assignee(new HashSet<>(members.subList(0, Math.min(3, members.size()))))
+        .startDate(LocalDate.of(2025, 1, 1))
+        .dueDate(LocalDate.of(2025, 12, 31))
+        .description("설명 ".repeat(20))
+        .tag(Set.of("backend", "benchmark"))
+        .subIssues(new HashSet<>())
+        .isDeleted(false)
+        .build();
+  }
+
+  public static List<Project> projects(int count, List<Member> members) {
+    List<Project> projects = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      projects.add(project(i, members));
+    }
+    return projects;
+  }
+
+  // 상위 이슈 없이 한 프로젝트에 속한 이슈 목록
+  public static List<Issue> flatIssues(int count, Project project, List<Member> members) {
+    List<Issue> issues = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      issues.add(issue(i, project, null, members));
+    }
+    return issues;
+  }
+
+  // depth 단계, 단계마다 fanOut 개의 하위 이슈를 가진 트리의 최상위 이슈
+  public static Issue issueTree(int depth, int fanOut, Project project, List<Member> members) {
+    long[] sequence = {0};
+    Issue root = issue(sequence[0]++, project, null, members);
+    List<Issue> level = List.of(root);
+    for (int d = 0; d < depth; d++) {
+      List<Issue> next = new ArrayList<>();
+      for (Issue parent : level) {
+        for (int i = 0; i < fanOut; i++) {
+          Issue child = issue(sequence[0]++, project, parent, members);
+          parent.getSubIssues().add(child);
+          next.add(child);
+        }
+      }
+      level = next;
+    }
+    return root;
+  }
+
+  private static Issue issue(long id, Project project, Issue parent, List<Member> members) {
+    return Issue.builder()
+        .id(id)
+        .type(parent == null ? IssueType.STORY : IssueType.TASK)
+        .status(IssueStatus.values()[(int) (id % IssueStatus.values().length)])
+        .priority(Priority.values()[(int) (id % Priority.values().length)])
+        .title("이슈 " + id)
+        .subTitle("부제목 " + id)
+        .creator(members.get((int) (id % members.size())))
+        .assignee(new ArrayList<>(members.subList(0, Math.min(2, members.size()))))
+        .startDate(LocalDate.of(2025, 1, 1))
+        .dueDate(LocalDate.of(2025, 6, 30))
+        .description("설명 ".repeat(20))
+        .tag(Set.of("bug", "backend"))
+        .parentProject(project)
+        .parentIssue(parent)
+        .subIssues(new HashSet<>())
+        .relatedIssues(new HashSet<>())
+        .isDeleted(false)
+        .build();
+  }
+
+  public static Path memberCsv(int rows) throws IOException {
+    Path path = Files.createTempFile("bench-members-", ".csv");
+    try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+      writer.write(String.join(",", MEMBER_HEADERS));
+      writer.newLine();
+      for (int i = 0; i < rows; i++) {
+        writer.write(String.join(",", memberRow(i)));
+        writer.newLine();
+      }
+    }
+    return path;
+  }
+
+  public static Path memberXlsx(int rows) throws IOException {
+    Path path = Files.createTempFile("bench-members-", ".xlsx");
+    SXSSFWorkbook workbook = new SXSSFWorkbook(100);
+    try (OutputStream out = Files.newOutputStream(path)) {
+      Sheet sheet = workbook.createSheet("members");
+      Row header = sheet.createRow(0);
+      for (int c = 0; c < MEMBER_HEADERS.length; c++) {
+        header.createCell(c).setCellValue(MEMBER_HEADERS[c]);
+      }
+      for (int i = 0; i < rows; i++) {
+        Row row = sheet.createRow(i + 1);
+        String[] values = memberRow(i);
+        for (int c = 0; c < values.length; c++) {
+          row.createCell(c).setCellValue(values[c]);
+        }
+      }
+      workbook.write(out);
+    } finally {
+      workbook.dispose();
+      workbook.close();
+    }
+    return path;
+  }
+
+  private static String[] memberRow(int i) {
+    return new String[] {
+      "member" + i + "@bench.dev",
+      "회원" + i,
+      "password",
+      "개발팀",
+      "백엔드",
+      "사원",
+      "010-0000-0000",
+      "",
+      "USER"
+    };
+  }
+
+  // FilesWriter 용 (findByIdGreaterThanOrderByIdAsc 만 사용, members() 의 ID 는 목록 위치와 같음)
+  public static MemberRepository memberRepository(List<Member> members) {
+    return (MemberRepository)
+        Proxy.newProxyInstance(
+            MemberRepository.class.getClassLoader(),
+            new Class<?>[] {MemberRepository.class},
+            (proxy, method, args) ->
+                switch (method.getName()) {
+                  case "findByIdGreaterThanOrderByIdAsc" -> {
+                    int from = (int) Math.min(members.size(), (Long) args[0] + 1);
+                    int to = Math.min(members.size(), from + ((Limit) args[1]).max());
+                    yield members.subList(from, to);
+                  }
+                  case "hashCode" -> System.identityHashCode(proxy);
+                  case "equals" -> proxy == args[0];
+                  case "toString" -> "BenchmarkMemberRepository";
+                  default -> throw new UnsupportedOperationException(method.getName());
+                });
+  }
+
+  // FilesWriter 용 (clear 만 사용, 아무 동작 안 함)
+  public static EntityManager entityManager() {
+    return (EntityManager)
+        Proxy.newProxyInstance(
+            EntityManager.class.getClassLoader(),
+            new Class<?>[] {EntityManager.class},
+            (proxy, method, args) ->
+                switch (method.getName()) {
+                  case "clear" -> null;
+                  case "hashCode" -> System.identityHashCode(proxy);
+                  case "equals" -> proxy == args[0];
+                  case "toString" -> "BenchmarkEntityManager";
+                  default -> throw new UnsupportedOperationException(method.getName());
+                });
+  }
+}
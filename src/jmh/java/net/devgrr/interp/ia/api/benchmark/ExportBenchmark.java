@@ -0,0 +1,75 @@
+package net.devgrr.interp.ia.api.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.devgrr.interp.ia.api.config.mapStruct.IssueMapper;
+import net.devgrr.interp.ia.api.config.mapStruct.IssueMapperImpl;
+import net.devgrr.interp.ia.api.config.mapStruct.ProjectMapper;
+import net.devgrr.interp.ia.api.config.mapStruct.ProjectMapperImpl;
+import net.devgrr.interp.ia.api.member.entity.Member;
+import net.devgrr.interp.ia.api.work.issue.dto.IssueResponse;
+import net.devgrr.interp.ia.api.work.issue.file.IssueFileService;
+import net.devgrr.interp.ia.api.work.project.dto.ProjectResponse;
+import net.devgrr.interp.ia.api.work.project.entity.Project;
+import net.devgrr.interp.ia.api.work.project.file.ProjectFileService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// 이슈/프로젝트 CSV, XLSX 내보내기 (출력은 버리고 변환, 기록 비용만 측정)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MINUTES)
+public class ExportBenchmark {
+
+  @Param({"10000", "100000"})
+  public int rows;
+
+  private final IssueFileService issueFileService = new IssueFileService();
+  private final ProjectFileService projectFileService = new ProjectFileService();
+
+  private List<IssueResponse> issues;
+  private List<ProjectResponse> projects;
+
+  @Setup
+  public void setUp() {
+    IssueMapper issueMapper = new IssueMapperImpl();
+    ProjectMapper projectMapper = new ProjectMapperImpl();
+    List<Member> members = BenchmarkFixtures.members(10);
+    Project project = BenchmarkFixtures.project(1L, members);
+
+    issues =
+        BenchmarkFixtures.flatIssues(rows, project, members).stream()
+            .map(issueMapper::toResponse)
+            .toList();
+    projects =
+        BenchmarkFixtures.projects(rows, members).stream().map(projectMapper::toResponse).toList();
+  }
+
+  @Benchmark
+  public void issuesToCsv() throws IOException {
+    issueFileService.exportIssuesToCsv(issues.stream(), OutputStream.nullOutputStream());
+  }
+
+  @Benchmark
+  public void issuesToXlsx() throws IOException {
+    issueFileService.exportIssuesToXlsx(issues.stream(), OutputStream.nullOutputStream());
+  }
+
+  @Benchmark
+  public void projectsToCsv() throws IOException {
+    projectFileService.exportProjectsToCsv(projects, OutputStream.nullOutputStream());
+  }
+
+  @Benchmark
+  public void projectsToXlsx() throws IOException {
+    projectFileService.exportProjectsToXlsx(projects, OutputStream.nullOutputStream());
+  }
+}
@@ -0,0 +1,58 @@
+package net.devgrr.interp.ia.api.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.devgrr.interp.ia.api.config.mapStruct.IssueMapper;
+import net.devgrr.interp.ia.api.config.mapStruct.IssueMapperImpl;
+import net.devgrr.interp.ia.api.config.mapStruct.ProjectMapper;
+import net.devgrr.interp.ia.api.config.mapStruct.ProjectMapperImpl;
+import net.devgrr.interp.ia.api.member.entity.Member;
+import net.devgrr.interp.ia.api.work.issue.dto.IssueResponse;
+import net.devgrr.interp.ia.api.work.issue.entity.Issue;
+import net.devgrr.interp.ia.api.work.project.dto.ProjectResponse;
+import net.devgrr.interp.ia.api.work.project.entity.Project;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// 하위 이슈 트리 전체를 변환하는 IssueMapper.toResponse, 하위 이슈가 많은 ProjectMapper.toResponse
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MapperBenchmark {
+
+  @Param({"2", "4", "6"})
+  public int depth;
+
+  @Param({"3"})
+  public int fanOut;
+
+  private final IssueMapper issueMapper = new IssueMapperImpl();
+  private final ProjectMapper projectMapper = new ProjectMapperImpl();
+
+  private Issue root;
+  private Project project;
+
+  @Setup
+  public void setUp() {
+    List<Member> members = BenchmarkFixtures.members(10);
+    project = BenchmarkFixtures.project(1L, members);
+    root = BenchmarkFixtures.issueTree(depth, fanOut, project, members);
+    project.getSubIssues().addAll(BenchmarkFixtures.flatIssues(500, project, members));
+  }
+
+  @Benchmark
+  public IssueResponse issueToResponse() {
+    return issueMapper.toResponse(root);
+  }
+
+  @Benchmark
+  public ProjectResponse projectToResponse() {
+    return projectMapper.toResponse(project);
+  }
+}
@@ -0,0 +1,85 @@
+package net.devgrr.interp.ia.api.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import net.devgrr.interp.ia.api.member.dto.MemberRequest;
+import net.devgrr.interp.ia.api.member.file.exportData.FilesWriter;
+import net.devgrr.interp.ia.api.member.file.importData.FileReader;
+import net.devgrr.interp.ia.api.member.file.importData.ImportRow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/*
+ * 회원 파일 내보내기(FilesWriter), 가져오기 행 변환(FileReader.csvRows, exelRows)
+ * - 파일 처리 1회가 수 초 이상 걸릴 수 있으므로 SingleShotTime 으로 측정
+ * */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MemberFileBenchmark {
+
+  @Param({"10000", "100000", "1000000"})
+  public int rows;
+
+  private FilesWriter filesWriter;
+  private FileReader fileReader;
+
+  private Path csvTemplate;
+  private Path xlsxTemplate;
+
+  @Setup(Level.Trial)
+  public void setUpTrial() throws IOException {
+    filesWriter =
+        new FilesWriter(
+            BenchmarkFixtures.memberRepository(BenchmarkFixtures.members(rows)),
+            BenchmarkFixtures.entityManager());
+    // 파싱, 변환 비용만 측정 (MemberImporter 의 DB 등록 제외)
+    fileReader = new FileReader(null);
+    csvTemplate = BenchmarkFixtures.memberCsv(rows);
+    xlsxTemplate = BenchmarkFixtures.memberXlsx(rows);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDownTrial() throws IOException {
+    Files.deleteIfExists(csvTemplate);
+    Files.deleteIfExists(xlsxTemplate);
+  }
+
+  @Benchmark
+  public void writeCsv() throws Exception {
+    filesWriter.filesWriter("csv", true, null, OutputStream.nullOutputStream());
+  }
+
+  @Benchmark
+  public void writeXlsx() throws Exception {
+    filesWriter.filesWriter("xlsx", true, null, OutputStream.nullOutputStream());
+  }
+
+  @Benchmark
+  public void readCsv(Blackhole blackhole) throws Exception {
+    try (Stream<ImportRow<MemberRequest>> rows = fileReader.csvRows(csvTemplate.toFile())) {
+      rows.forEach(blackhole::consume);
+    }
+  }
+
+  @Benchmark
+  public void readXlsx(Blackhole blackhole) throws Exception {
+    try (Stream<ImportRow<MemberRequest>> rows =
+        fileReader.exelRows(xlsxTemplate.toFile(), true)) {
+      rows.forEach(blackhole::consume);
+    }
+  }
+}
@@ -10,10 +10,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.devgrr.interp.ia.api.comment.dto.CommentRequest;
 import net.devgrr.interp.ia.api.comment.dto.CommentResponse;
+import net.devgrr.interp.ia.api.comment.dto.CommentThreadResponse;
 import net.devgrr.interp.ia.api.comment.dto.CommentValidationGroup;
 import net.devgrr.interp.ia.api.config.exception.BaseException;
 import net.devgrr.interp.ia.api.config.issue.IssueCategory;
 import net.devgrr.interp.ia.api.config.mapStruct.CommentMapper;
+import net.devgrr.interp.ia.api.config.metrics.QueryBudget;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -43,6 +45,7 @@ public class CommentController {
 
   @Operation(description = "Reference Type과 Id로 댓글 목록을 조회한다.")
   @GetMapping("/{referenceType}/{id}")
+  @QueryBudget(3)
   public List<CommentResponse> getCommentsById(
       @PathVariable("referenceType") @Parameter(description = "참조 타입 (issue/project)")
           IssueCategory referenceType,
@@ -58,6 +61,31 @@ public class CommentController {
             .collect(Collectors.toList());
   }
 
+  @Operation(
+      description =
+          """
+          최상위 댓글을 페이지 단위로 조회한다. (ID 오름차순) \n
+          다음 페이지는 응답의 nextCursor 값을 cursor 로 전달하여 조회한다. <br>
+          페이지 크기는 기본 20, 최대 100 이다. <br>
+          depth 단계까지 하위 댓글을 함께 조회하며 기본 0, 최대 5 이다. <br>
+          각 댓글의 childCount 는 펼치지 않은 하위 댓글을 포함한 하위 댓글 수이다.
+          """)
+  @GetMapping("/{referenceType}/{id}/threads")
+  @QueryBudget(8)
+  public CommentThreadResponse getCommentThreads(
+      @PathVariable("referenceType") @Parameter(description = "참조 타입 (issue/project)")
+          IssueCategory referenceType,
+      @PathVariable("id") @Parameter(description = "참조 ID") Long id,
+      @RequestParam(value = "cursor", required = false) @Parameter(description = "다음 페이지 커서")
+          Long cursor,
+      @RequestParam(value = "size", required = false) @Parameter(description = "페이지 크기")
+          Integer size,
+      @RequestParam(value = "depth", required = false) @Parameter(description = "하위 댓글 조회 단계")
+          Integer depth)
+      throws BaseException {
+    return commentService.getCommentThreads(referenceType, id, cursor, size, depth);
+  }
+
   @Operation(description = "댓글을 삭제한다.")
   @DeleteMapping("/{id}")
   @ResponseStatus(HttpStatus.NO_CONTENT)
@@ -1,10 +1,40 @@
 package net.devgrr.interp.ia.api.comment;
 
+import java.util.Collection;
 import java.util.List;
 import net.devgrr.interp.ia.api.comment.entity.Comment;
 import net.devgrr.interp.ia.api.config.issue.IssueCategory;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
-  List<Comment> findAllByReferenceTypeAndReferenceId(IssueCategory referenceType, Long id);
+  @Query(
+      "select c from Comment c join fetch c.member"
+          + " where c.referenceType = :referenceType and c.referenceId = :referenceId")
+  List<Comment> findAllByReferenceTypeAndReferenceId(
+      @Param("referenceType") IssueCategory referenceType, @Param("referenceId") Long id);
+
+  // 최상위 댓글을 ID 순으로 afterId 이후부터 조회 (pageable 은 limit 용도)
+  @Query(
+      "select c from Comment c join fetch c.member"
+          + " where c.referenceType = :referenceType and c.referenceId = :referenceId"
+          + " and c.parentCommentId is null and c.id > :afterId order by c.id")
+  List<Comment> findThreads(
+      @Param("referenceType") IssueCategory referenceType,
+      @Param("referenceId") Long referenceId,
+      @Param("afterId") Long afterId,
+      Pageable pageable);
+
+  @Query(
+      "select c from Comment c join fetch c.member"
+          + " where c.parentCommentId in :parentIds order by c.id")
+  List<Comment> findAllByParentCommentIdIn(@Param("parentIds") Collection<Long> parentIds);
+
+  // [부모 댓글 ID, 하위 댓글 수]
+  @Query(
+      "select c.parentCommentId, count(c) from Comment c"
+          + " where c.parentCommentId in :parentIds group by c.parentCommentId")
+  List<Object[]> countByParentCommentIdIn(@Param("parentIds") Collection<Long> parentIds);
 }
@@ -1,24 +1,32 @@
 package net.devgrr.interp.ia.api.comment;
 
+import io.micrometer.core.annotation.Timed;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import net.devgrr.interp.ia.api.comment.dto.CommentRequest;
 import net.devgrr.interp.ia.api.comment.dto.CommentResponse;
+import net.devgrr.interp.ia.api.comment.dto.CommentThreadResponse;
 import net.devgrr.interp.ia.api.comment.entity.Comment;
 import net.devgrr.interp.ia.api.config.exception.BaseException;
 import net.devgrr.interp.ia.api.config.exception.ErrorCode;
 import net.devgrr.interp.ia.api.config.issue.IssueCategory;
 import net.devgrr.interp.ia.api.config.mapStruct.CommentMapper;
+import net.devgrr.interp.ia.api.config.metrics.MetricsConfig;
 import net.devgrr.interp.ia.api.member.MemberRole;
 import net.devgrr.interp.ia.api.member.MemberService;
 import net.devgrr.interp.ia.api.member.entity.Member;
 import net.devgrr.interp.ia.api.work.issue.IssueService;
 import net.devgrr.interp.ia.api.work.project.ProjectService;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+@Timed(MetricsConfig.SERVICE_TIMER)
 @Service
 @RequiredArgsConstructor
 public class CommentService {
@@ -30,6 +38,10 @@ public class CommentService {
   private final ProjectService projectService;
   private final IssueService issueService;
 
+  private static final int DEFAULT_THREAD_SIZE = 20;
+  private static final int MAX_THREAD_SIZE = 100;
+  private static final int MAX_THREAD_DEPTH = 5;
+
   @Transactional
   public Comment setComments(CommentRequest req, String userEmail) throws BaseException {
     Member member = memberService.getUsersByEmail(userEmail);
@@ -55,21 +67,114 @@ public class CommentService {
       throws BaseException {
     List<Comment> comments = getCommentsById(referenceType, id);
 
-    List<Comment> parentComments =
-        comments.stream().filter(comment -> comment.getParentCommentId() == null).toList();
+    List<Comment> parentComments = new ArrayList<>();
+    Map<Long, List<Comment>> childrenByParentId = new HashMap<>();
+    for (Comment comment : comments) {
+      if (comment.getParentCommentId() == null) {
+        parentComments.add(comment);
+      } else {
+        childrenByParentId
+            .computeIfAbsent(comment.getParentCommentId(), k -> new ArrayList<>())
+            .add(comment);
+      }
+    }
+    return buildHierarchy(parentComments, childrenByParentId, Map.of(), Integer.MAX_VALUE);
+  }
+
+  /*
+   * 최상위 댓글 페이지 조회
+   * - 최상위 댓글을 ID 순으로 size 개씩 조회, cursor 는 이전 페이지의 마지막 댓글 ID
+   * - depth 단계까지 하위 댓글을 펼치며 단계마다 조회 1회, 펼치지 않은 댓글은 하위 댓글 수만 조회 1회
+   * */
+  public CommentThreadResponse getCommentThreads(
+      IssueCategory referenceType, Long id, Long cursor, Integer size, Integer depth)
+      throws BaseException {
+    verifyRefType(referenceType, id);
+    int pageSize =
+        size == null || size <= 0 ? DEFAULT_THREAD_SIZE : Math.min(size, MAX_THREAD_SIZE);
+    int maxDepth = depth == null || depth <= 0 ? 0 : Math.min(depth, MAX_THREAD_DEPTH);
+
+    List<Comment> threads =
+        commentRepository.findThreads(
+            referenceType, id, cursor != null ? cursor : 0L, PageRequest.of(0, pageSize + 1));
+    boolean hasNext = threads.size() > pageSize;
+    List<Comment> page = hasNext ? threads.subList(0, pageSize) : threads;
+    if (page.isEmpty()) {
+      return new CommentThreadResponse(List.of(), null, false);
+    }
 
-    return parentComments.stream()
-        .map(parentComment -> buildHierarchy(parentComment, comments))
-        .toList();
+    Map<Long, List<Comment>> childrenByParentId = new HashMap<>();
+    List<Long> levelIds = page.stream().map(Comment::getId).toList();
+    for (int level = 0; level < maxDepth && !levelIds.isEmpty(); level++) {
+      List<Comment> children = commentRepository.findAllByParentCommentIdIn(levelIds);
+      for (Comment child : children) {
+        childrenByParentId
+            .computeIfAbsent(child.getParentCommentId(), k -> new ArrayList<>())
+            .add(child);
+      }
+      levelIds = children.stream().map(Comment::getId).toList();
+    }
+
+    Map<Long, Integer> childCounts = new HashMap<>();
+    if (!levelIds.isEmpty()) {
+      for (Object[] row : commentRepository.countByParentCommentIdIn(levelIds)) {
+        childCounts.put((Long) row[0], ((Long) row[1]).intValue());
+      }
+    }
+
+    return new CommentThreadResponse(
+        buildHierarchy(page, childrenByParentId, childCounts, maxDepth),
+        hasNext ? page.get(page.size() - 1).getId() : null,
+        hasNext);
   }
 
-  private CommentResponse buildHierarchy(Comment parentComment, List<Comment> comments) {
-    List<CommentResponse> childComments =
-        comments.stream()
-            .filter(comment -> Objects.equals(comment.getParentCommentId(), parentComment.getId()))
-            .map(child -> buildHierarchy(child, comments))
-            .toList();
-    return commentMapper.toResponseWithChildren(parentComment, childComments);
+  /*
+   * 댓글 트리 구성 (재귀 없이 전체 댓글 수에 비례하는 시간)
+   * - 최상위 댓글부터 너비 우선으로 maxDepth 단계까지 방문한 후 역순으로 응답 생성
+   *   (하위 댓글 응답이 상위 댓글보다 먼저 만들어짐)
+   * - maxDepth 단계의 댓글은 하위 댓글 없이 하위 댓글 수만 포함 (childCounts 기준)
+   * - 이미 방문한 댓글은 다시 방문하지 않으므로 순환 참조가 있어도 종료됨
+   * */
+  private List<CommentResponse> buildHierarchy(
+      List<Comment> parentComments,
+      Map<Long, List<Comment>> childrenByParentId,
+      Map<Long, Integer> childCounts,
+      int maxDepth) {
+    List<Comment> visited = new ArrayList<>(parentComments);
+    Map<Long, Integer> depthById = new HashMap<>();
+    parentComments.forEach(comment -> depthById.put(comment.getId(), 0));
+    for (int i = 0; i < visited.size(); i++) {
+      Comment comment = visited.get(i);
+      int depth = depthById.get(comment.getId());
+      if (depth < maxDepth) {
+        for (Comment child : childrenByParentId.getOrDefault(comment.getId(), List.of())) {
+          if (depthById.putIfAbsent(child.getId(), depth + 1) == null) {
+            visited.add(child);
+          }
+        }
+      }
+    }
+
+    Map<Long, CommentResponse> responseById = new HashMap<>();
+    for (int i = visited.size() - 1; i >= 0; i--) {
+      Comment comment = visited.get(i);
+      List<Comment> children = childrenByParentId.getOrDefault(comment.getId(), List.of());
+      CommentResponse response;
+      if (depthById.get(comment.getId()) < maxDepth) {
+        List<CommentResponse> childComments =
+            children.stream()
+                .map(child -> responseById.get(child.getId()))
+                .filter(Objects::nonNull)
+                .toList();
+        response =
+            commentMapper.toResponseWithChildren(comment, childComments, childComments.size());
+      } else {
+        int childCount = childCounts.getOrDefault(comment.getId(), children.size());
+        response = commentMapper.toResponseWithChildren(comment, null, childCount);
+      }
+      responseById.put(comment.getId(), response);
+    }
+    return parentComments.stream().map(comment -> responseById.get(comment.getId())).toList();
   }
 
   @Transactional
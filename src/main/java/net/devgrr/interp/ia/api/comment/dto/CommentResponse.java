@@ -22,4 +22,6 @@ public record CommentResponse(
     @Schema(description = "댓글 수정 일자") @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
         LocalDateTime updatedDate,
     @Schema(description = "하위 댓글") @JsonInclude(JsonInclude.Include.NON_NULL)
-        List<CommentResponse> childComment) {}
+        List<CommentResponse> childComment,
+    @Schema(description = "하위 댓글 수 (펼치지 않은 댓글 포함)") @JsonInclude(JsonInclude.Include.NON_NULL)
+        Integer childCount) {}
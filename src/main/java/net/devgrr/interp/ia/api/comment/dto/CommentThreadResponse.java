@@ -0,0 +1,10 @@
+package net.devgrr.interp.ia.api.comment.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema(description = "댓글 스레드 페이지 응답")
+public record CommentThreadResponse(
+    @Schema(description = "최상위 댓글 목록") List<CommentResponse> comments,
+    @Schema(description = "다음 페이지 조회용 커서 (마지막 페이지일 경우 null)") Long nextCursor,
+    @Schema(description = "다음 페이지 존재 여부") Boolean hasNext) {}
@@ -12,7 +12,8 @@ public enum ErrorCode {
   NOT_FOUND(HttpStatus.NOT_FOUND, "데이터를 찾을 수 없습니다."),
   METHOD_NOT_ALLOWED(HttpStatus.METHOD_NOT_ALLOWED, "허용되지 않은 메소드입니다."),
   // 500~
-  INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버에러입니다.");
+  INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버에러입니다."),
+  SERVICE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다.");
 
   private final String message;
   private final HttpStatus status;
@@ -0,0 +1,4 @@
+package net.devgrr.interp.ia.api.config.logging;
+
+public record AccessLogEntry(
+    long timestamp, String method, String route, int status, String user, long durationNanos) {}
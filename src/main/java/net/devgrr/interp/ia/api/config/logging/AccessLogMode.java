@@ -0,0 +1,10 @@
+package net.devgrr.interp.ia.api.config.logging;
+
+public enum AccessLogMode {
+  // 요청/응답을 요청 스레드에서 바로 출력 (기존 방식)
+  SYNC,
+  // 요청 스레드는 대기열에 적재만 하고 별도 스레드에서 출력
+  ASYNC,
+  // 출력하지 않음 (지연 시간 집계는 유지)
+  OFF
+}
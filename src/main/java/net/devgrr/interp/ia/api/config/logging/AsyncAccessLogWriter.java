@@ -0,0 +1,105 @@
+package net.devgrr.interp.ia.api.config.logging;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/*
+ * 접근 로그 비동기 출력
+ * - 요청 스레드는 lock-free 대기열(ConcurrentLinkedQueue)에 적재만 하고 즉시 반환
+ * - 대기열이 capacity 에 도달하면 새 항목은 버리고 건수만 집계 (요청 처리를 지연시키지 않음)
+ * - 단일 writer 스레드가 주기적으로 비우며 access-log 로거로 출력
+ * */
+@Slf4j
+@Component
+public class AsyncAccessLogWriter {
+
+  private static final Logger ACCESS_LOG = LoggerFactory.getLogger("access-log");
+  private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+  private final Queue<AccessLogEntry> queue = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger size = new AtomicInteger();
+  private final AtomicLong dropped = new AtomicLong();
+  private final int capacity;
+
+  private volatile boolean running;
+  private Thread writer;
+
+  public AsyncAccessLogWriter(@Value("${api.access-log.capacity:8192}") int capacity) {
+    this.capacity = capacity;
+  }
+
+  @PostConstruct
+  void start() {
+    running = true;
+    writer = new Thread(this::drainLoop, "access-log-writer");
+    writer.setDaemon(true);
+    writer.start();
+  }
+
+  @PreDestroy
+  void stop() throws InterruptedException {
+    running = false;
+    LockSupport.unpark(writer);
+    writer.join(TimeUnit.SECONDS.toMillis(5));
+  }
+
+  public void offer(AccessLogEntry entry) {
+    if (size.incrementAndGet() > capacity) {
+      size.decrementAndGet();
+      dropped.incrementAndGet();
+      return;
+    }
+    queue.offer(entry);
+  }
+
+  private void drainLoop() {
+    while (running) {
+      if (drain() == 0) {
+        LockSupport.parkNanos(IDLE_PARK_NANOS);
+      }
+    }
+    drain();
+  }
+
+  private int drain() {
+    int count = 0;
+    AccessLogEntry entry;
+    while ((entry = queue.poll()) != null) {
+      size.decrementAndGet();
+      count++;
+      try {
+        write(entry);
+      } catch (RuntimeException e) {
+        log.warn("Failed to write access log.", e);
+      }
+    }
+    long droppedCount = dropped.getAndSet(0);
+    if (droppedCount > 0) {
+      ACCESS_LOG.warn("dropped={}", droppedCount);
+    }
+    return count;
+  }
+
+  private void write(AccessLogEntry entry) {
+    ACCESS_LOG.info(
+        "ts={} method={} route={} status={} user={} durationUs={}",
+        Instant.ofEpochMilli(entry.timestamp()),
+        entry.method(),
+        entry.route(),
+        entry.status(),
+        entry.user(),
+        TimeUnit.NANOSECONDS.toMicros(entry.durationNanos()));
+  }
+}
@@ -0,0 +1,28 @@
+package net.devgrr.interp.ia.api.config.logging;
+
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import net.devgrr.interp.ia.api.config.logging.RouteLatencyHistograms.LatencySnapshot;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+// GET /actuator/latency : 경로별 응답 시간 백분위 (ms), DELETE : 초기화
+@Component
+@Endpoint(id = "latency")
+@RequiredArgsConstructor
+public class LatencyEndpoint {
+
+  private final RouteLatencyHistograms routeLatencyHistograms;
+
+  @ReadOperation
+  public Map<String, LatencySnapshot> latency() {
+    return routeLatencyHistograms.snapshot();
+  }
+
+  @DeleteOperation
+  public void reset() {
+    routeLatencyHistograms.reset();
+  }
+}
@@ -0,0 +1,66 @@
+package net.devgrr.interp.ia.api.config.logging;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.stereotype.Component;
+
+/*
+ * 경로 템플릿(METHOD + 매핑 패턴)별 응답 시간 HDR 히스토그램
+ * - 기록은 wait-free (ConcurrentHistogram), 조회 시 복사본으로 백분위 계산
+ * - 1µs ~ 1분 범위, 유효숫자 2자리 (범위를 넘는 값은 최댓값으로 기록)
+ * - 매핑되지 않은 요청은 하나의 키로 모아 키 수가 URI 수만큼 늘어나지 않도록 함
+ * */
+@Component
+public class RouteLatencyHistograms {
+
+  private static final long LOWEST_MICROS = 1;
+  private static final long HIGHEST_MICROS = TimeUnit.MINUTES.toMicros(1);
+  private static final int SIGNIFICANT_DIGITS = 2;
+
+  private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+
+  public void record(String method, String route, long durationNanos) {
+    long micros =
+        Math.min(Math.max(TimeUnit.NANOSECONDS.toMicros(durationNanos), 1), HIGHEST_MICROS);
+    histograms
+        .computeIfAbsent(
+            method + " " + route,
+            k -> new ConcurrentHistogram(LOWEST_MICROS, HIGHEST_MICROS, SIGNIFICANT_DIGITS))
+        .recordValue(micros);
+  }
+
+  // key: "METHOD route", 단위: ms
+  public Map<String, LatencySnapshot> snapshot() {
+    Map<String, LatencySnapshot> result = new TreeMap<>();
+    histograms.forEach(
+        (route, histogram) -> result.put(route, LatencySnapshot.of(histogram.copy())));
+    return result;
+  }
+
+  public void reset() {
+    histograms.values().forEach(Histogram::reset);
+  }
+
+  public record LatencySnapshot(
+      long count, double mean, double p50, double p90, double p99, double p999, double max) {
+
+    static LatencySnapshot of(Histogram histogram) {
+      return new LatencySnapshot(
+          histogram.getTotalCount(),
+          toMillis(histogram.getMean()),
+          toMillis(histogram.getValueAtPercentile(50)),
+          toMillis(histogram.getValueAtPercentile(90)),
+          toMillis(histogram.getValueAtPercentile(99)),
+          toMillis(histogram.getValueAtPercentile(99.9)),
+          toMillis(histogram.getMaxValue()));
+    }
+
+    private static double toMillis(double micros) {
+      return Math.round(micros) / 1000.0;
+    }
+  }
+}
@@ -21,8 +21,9 @@ public interface CommentMapper {
   @Mapping(source = "parentComment.member.email", target = "writerEmail")
   @Mapping(source = "parentComment.member.name", target = "writerName")
   @Mapping(source = "childComments", target = "childComment")
+  @Mapping(source = "childCount", target = "childCount")
   CommentResponse toResponseWithChildren(
-      Comment parentComment, List<CommentResponse> childComments);
+      Comment parentComment, List<CommentResponse> childComments, Integer childCount);
 
   @Mapping(target = "content", source = "req.content")
   @Mapping(target = "id", ignore = true)
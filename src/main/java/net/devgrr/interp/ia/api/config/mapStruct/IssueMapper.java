@@ -7,6 +7,7 @@ import net.devgrr.interp.ia.api.config.issue.IssueStatus;
 import net.devgrr.interp.ia.api.config.issue.IssueType;
 import net.devgrr.interp.ia.api.config.issue.Priority;
 import net.devgrr.interp.ia.api.member.entity.Member;
+import net.devgrr.interp.ia.api.work.issue.dto.IssueRefResponse;
 import net.devgrr.interp.ia.api.work.issue.dto.IssueRequest;
 import net.devgrr.interp.ia.api.work.issue.dto.IssueResponse;
 import net.devgrr.interp.ia.api.work.issue.entity.Issue;
@@ -38,6 +39,8 @@ public interface IssueMapper {
 
   IssueResponse toResponse(Issue issue);
 
+  IssueRefResponse toRefResponse(Issue issue);
+
   @Mapping(target = "subIssues", source = "subIssues")
   void mapSubIssues(@MappingTarget Issue issue, Integer dummy, List<Issue> subIssues);
 
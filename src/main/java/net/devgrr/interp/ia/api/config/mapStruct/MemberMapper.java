@@ -39,11 +39,6 @@ public interface MemberMapper {
 
   MemberResponse toResponse(Member member);
 
-  @Mapping(target = "updatedDate", expression = "java(java.time.LocalDateTime.now())")
-  @Mapping(target = "refreshToken", source = "refreshToken")
-  @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
-  Member updateMemberRefreshToken(Member updateMember, @MappingTarget Member member);
-
   @Mapping(
       source = "password",
       target = "password",
@@ -0,0 +1,40 @@
+package net.devgrr.interp.ia.api.config.metrics;
+
+import io.micrometer.core.aop.CountedAspect;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/*
+ * 도메인 지표 설정 (/actuator/prometheus 로 수집)
+ * - @Timed 가 붙은 서비스는 app.service 타이머로 메소드별 처리 시간 기록 (tag: class, method)
+ * - 내보내기/가져오기 행 수는 app.export.rows, app.import.rows 카운터로 기록
+ * - Hibernate SQL 실행 횟수를 요청 단위로 집계 (http.server.requests.queries)
+ * */
+@Configuration
+public class MetricsConfig {
+
+  public static final String SERVICE_TIMER = "app.service";
+  // 초당 처리 건수는 rate() 로 계산 (tag: type, format)
+  public static final String EXPORT_ROWS_COUNTER = "app.export.rows";
+  public static final String IMPORT_ROWS_COUNTER = "app.import.rows";
+
+  @Bean
+  public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+    return new TimedAspect(meterRegistry);
+  }
+
+  @Bean
+  public CountedAspect countedAspect(MeterRegistry meterRegistry) {
+    return new CountedAspect(meterRegistry);
+  }
+
+  @Bean
+  public HibernatePropertiesCustomizer queryCountCustomizer() {
+    return properties ->
+        properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountInspector());
+  }
+}
@@ -0,0 +1,17 @@
+package net.devgrr.interp.ia.api.config.metrics;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/*
+ * 컨트롤러 메소드의 요청당 최대 SQL 실행 횟수
+ * - 응답 직렬화 중 지연 로딩까지 포함하여 QueryBudgetInterceptor 가 검사
+ * - 초과 시 동작은 api.query-budget.mode (off, warn, fail) 에 따름
+ * */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+  int value();
+}
@@ -0,0 +1,52 @@
+package net.devgrr.interp.ia.api.config.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import net.devgrr.interp.ia.api.config.exception.ErrorCode;
+import net.devgrr.interp.ia.api.config.exception.ErrorResponse;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/*
+ * fail 모드에서 @QueryBudget 초과 응답을 오류 응답으로 교체
+ * - @ResponseBody 는 postHandle 이전에 기록되므로 응답 본문을 버퍼에 담아 커밋을 미룸
+ * - QueryBudgetInterceptor 가 초과를 기록한 요청은 본문을 버리고 500 ErrorResponse 기록
+ * - 응답 전체를 버퍼링하므로 fail 모드(테스트)에서만 등록
+ * */
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+  private final ObjectMapper objectMapper;
+
+  public QueryBudgetFilter(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+    try {
+      filterChain.doFilter(request, wrapper);
+
+      String exceeded = QueryBudgetInterceptor.exceededMessage(request);
+      if (exceeded != null) {
+        wrapper.resetBuffer();
+        wrapper.setStatus(ErrorCode.INTERNAL_SERVER_ERROR.getStatus().value());
+        wrapper.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        wrapper
+            .getOutputStream()
+            .write(
+                objectMapper.writeValueAsBytes(
+                    new ErrorResponse(ErrorCode.INTERNAL_SERVER_ERROR, exceeded)));
+      }
+    } finally {
+      wrapper.copyBodyToResponse();
+    }
+  }
+}
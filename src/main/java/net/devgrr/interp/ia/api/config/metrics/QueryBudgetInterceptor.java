@@ -0,0 +1,92 @@
+package net.devgrr.interp.ia.api.config.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+/*
+ * @QueryBudget 이 선언된 API 의 SQL 실행 횟수 검사 (N+1 조회 감지)
+ * - preHandle 시점의 QueryCounter 값을 기준으로 postHandle 까지 실행된 SQL 수를 계산
+ *   (@ResponseBody 는 postHandle 이전에 직렬화되므로 응답 변환 중 지연 로딩도 포함)
+ * - ApiLoggingFilter 를 거치지 않은 요청은 인터셉터에서 직접 집계 시작/종료
+ * - fail 모드의 초과 내역은 요청 속성으로 남기고 QueryBudgetFilter 가 응답 커밋 전에 오류 응답으로 교체
+ *   (postHandle 시점에는 응답이 이미 커밋되어 예외를 던져도 클라이언트는 200 을 받음)
+ * */
+@Slf4j
+public class QueryBudgetInterceptor implements HandlerInterceptor {
+
+  private static final String BASELINE_ATTRIBUTE = QueryBudgetInterceptor.class.getName() + ".base";
+  private static final String OWNER_ATTRIBUTE = QueryBudgetInterceptor.class.getName() + ".owner";
+  static final String EXCEEDED_ATTRIBUTE =
+      QueryBudgetInterceptor.class.getName() + ".exceeded";
+
+  private final QueryBudgetMode mode;
+
+  public QueryBudgetInterceptor(QueryBudgetMode mode) {
+    this.mode = mode;
+  }
+
+  @Override
+  public boolean preHandle(
+      HttpServletRequest request, HttpServletResponse response, Object handler) {
+    if (mode == QueryBudgetMode.OFF || budgetOf(handler) == null) {
+      return true;
+    }
+    if (!QueryCounter.isActive()) {
+      QueryCounter.start();
+      request.setAttribute(OWNER_ATTRIBUTE, Boolean.TRUE);
+    }
+    request.setAttribute(BASELINE_ATTRIBUTE, QueryCounter.current());
+    return true;
+  }
+
+  @Override
+  public void postHandle(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      Object handler,
+      ModelAndView modelAndView) {
+    QueryBudget budget = budgetOf(handler);
+    Object baseline = request.getAttribute(BASELINE_ATTRIBUTE);
+    if (budget == null || !(baseline instanceof Long base)) {
+      return;
+    }
+
+    long used = QueryCounter.current() - base;
+    if (used <= budget.value()) {
+      return;
+    }
+    String message =
+        String.format(
+            "Query budget exceeded: %s %s ran %d queries (budget: %d)",
+            request.getMethod(), request.getRequestURI(), used, budget.value());
+    if (mode == QueryBudgetMode.FAIL) {
+      log.error(message);
+      request.setAttribute(EXCEEDED_ATTRIBUTE, message);
+      return;
+    }
+    log.warn(message);
+  }
+
+  //  fail 모드에서 budget 을 초과한 요청의 초과 내역 (초과하지 않았으면 null)
+  public static String exceededMessage(HttpServletRequest request) {
+    return (String) request.getAttribute(EXCEEDED_ATTRIBUTE);
+  }
+
+  @Override
+  public void afterCompletion(
+      HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+    if (Boolean.TRUE.equals(request.getAttribute(OWNER_ATTRIBUTE))) {
+      QueryCounter.stop();
+    }
+  }
+
+  private static QueryBudget budgetOf(Object handler) {
+    return handler instanceof HandlerMethod handlerMethod
+        ? handlerMethod.getMethodAnnotation(QueryBudget.class)
+        : null;
+  }
+}
@@ -0,0 +1,9 @@
+package net.devgrr.interp.ia.api.config.metrics;
+
+public enum QueryBudgetMode {
+  OFF,
+  // 초과 시 경고 로그 (운영 기본값)
+  WARN,
+  // 초과 시 500 응답 (QueryBudgetFilter, 테스트 기본값)
+  FAIL
+}
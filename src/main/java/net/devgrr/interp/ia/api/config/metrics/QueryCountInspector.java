@@ -0,0 +1,12 @@
+package net.devgrr.interp.ia.api.config.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+public class QueryCountInspector implements StatementInspector {
+
+  @Override
+  public String inspect(String sql) {
+    QueryCounter.increment();
+    return sql;
+  }
+}
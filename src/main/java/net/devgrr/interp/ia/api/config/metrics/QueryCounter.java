@@ -0,0 +1,38 @@
+package net.devgrr.interp.ia.api.config.metrics;
+
+/*
+ * 요청 스레드별 Hibernate SQL 실행 횟수
+ * - ApiLoggingFilter 가 요청 시작/종료 시 start/stop 호출
+ * - QueryCountInspector 가 Hibernate 가 실행하는 SQL 마다 increment (JdbcTemplate 직접 실행분은 제외)
+ * - start 되지 않은 스레드(스케줄러, 기동 작업 등)에서는 집계하지 않음
+ * */
+public class QueryCounter {
+
+  private static final ThreadLocal<long[]> COUNT = new ThreadLocal<>();
+
+  public static void start() {
+    COUNT.set(new long[1]);
+  }
+
+  public static boolean isActive() {
+    return COUNT.get() != null;
+  }
+
+  public static void increment() {
+    long[] count = COUNT.get();
+    if (count != null) {
+      count[0]++;
+    }
+  }
+
+  public static long current() {
+    long[] count = COUNT.get();
+    return count != null ? count[0] : 0;
+  }
+
+  public static long stop() {
+    long count = current();
+    COUNT.remove();
+    return count;
+  }
+}
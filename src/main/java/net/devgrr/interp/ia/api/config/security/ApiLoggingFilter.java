@@ -5,26 +5,104 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import net.devgrr.interp.ia.api.config.logging.AccessLogEntry;
+import net.devgrr.interp.ia.api.config.logging.AccessLogMode;
+import net.devgrr.interp.ia.api.config.logging.AsyncAccessLogWriter;
+import net.devgrr.interp.ia.api.config.logging.RouteLatencyHistograms;
+import net.devgrr.interp.ia.api.config.metrics.QueryCounter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
 
+/*
+ * API 접근 로그
+ * - 모든 요청의 처리 시간을 경로 템플릿별 히스토그램에 기록 (/actuator/latency)
+ * - 요청별 Hibernate SQL 실행 횟수를 http.server.requests.queries 지표로 기록
+ * - 로그 출력 방식은 api.access-log.mode (sync, async, off) 로 설정, 기본 async
+ * */
 @Slf4j
 @Component
 public class ApiLoggingFilter extends OncePerRequestFilter {
 
+  private static final String UNMATCHED_ROUTE = "UNMATCHED";
+  private static final String ANONYMOUS_USER = "-";
+
+  private final AccessLogMode mode;
+  private final AsyncAccessLogWriter asyncAccessLogWriter;
+  private final RouteLatencyHistograms routeLatencyHistograms;
+  private final MeterRegistry meterRegistry;
+
+  public ApiLoggingFilter(
+      @Value("${api.access-log.mode:async}") AccessLogMode mode,
+      AsyncAccessLogWriter asyncAccessLogWriter,
+      RouteLatencyHistograms routeLatencyHistograms,
+      MeterRegistry meterRegistry) {
+    this.mode = mode;
+    this.asyncAccessLogWriter = asyncAccessLogWriter;
+    this.routeLatencyHistograms = routeLatencyHistograms;
+    this.meterRegistry = meterRegistry;
+  }
+
   @Override
   protected void doFilterInternal(
       HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
       throws ServletException, IOException {
+    long start = System.nanoTime();
+    QueryCounter.start();
     try {
-      logRequest(request);
+      if (mode == AccessLogMode.SYNC) {
+        logRequest(request);
+      }
       filterChain.doFilter(request, response);
-      logResponse(response);
+      if (mode == AccessLogMode.SYNC) {
+        logResponse(response);
+      }
     } catch (Exception e) {
       log.error("[ERROR] ", e);
       throw e;
+    } finally {
+      record(request, response, System.nanoTime() - start, QueryCounter.stop());
+    }
+  }
+
+  private void record(
+      HttpServletRequest request, HttpServletResponse response, long duration, long queries) {
+    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    String route = pattern != null ? pattern.toString() : UNMATCHED_ROUTE;
+    routeLatencyHistograms.record(request.getMethod(), route, duration);
+    DistributionSummary.builder("http.server.requests.queries")
+        .description("요청당 Hibernate SQL 실행 횟수")
+        .tags("method", request.getMethod(), "uri", route)
+        .register(meterRegistry)
+        .record(queries);
+
+    if (mode == AccessLogMode.ASYNC) {
+      asyncAccessLogWriter.offer(
+          new AccessLogEntry(
+              System.currentTimeMillis(),
+              request.getMethod(),
+              route,
+              response.getStatus(),
+              currentUser(),
+              duration));
+    }
+  }
+
+  private String currentUser() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication == null
+        || authentication instanceof AnonymousAuthenticationToken
+        || !authentication.isAuthenticated()) {
+      return ANONYMOUS_USER;
     }
+    return authentication.getName();
   }
 
   private void logRequest(HttpServletRequest request) {
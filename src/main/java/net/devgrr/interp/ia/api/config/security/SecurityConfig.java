@@ -1,23 +1,27 @@
 package net.devgrr.interp.ia.api.config.security;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.DispatcherType;
 import java.util.Arrays;
 import java.util.Collections;
 import lombok.RequiredArgsConstructor;
 import net.devgrr.interp.ia.api.jwt.JwtService;
+import net.devgrr.interp.ia.api.jwt.RefreshTokenService;
 import net.devgrr.interp.ia.api.jwt.exceptionHandler.JwtAuthenticationEntryPoint;
 import net.devgrr.interp.ia.api.jwt.filter.JwtAuthenticationProcessingFilter;
-import net.devgrr.interp.ia.api.login.LoginService;
+import net.devgrr.interp.ia.api.login.MemberAuthenticationProvider;
+import net.devgrr.interp.ia.api.login.PasswordVerifier;
 import net.devgrr.interp.ia.api.login.filter.JsonUsernamePasswordAuthenticationFilter;
 import net.devgrr.interp.ia.api.login.handler.LoginFailureHandler;
 import net.devgrr.interp.ia.api.login.handler.LoginSuccessJWTProvideHandler;
 import net.devgrr.interp.ia.api.member.MemberRepository;
+import net.devgrr.interp.ia.api.member.cache.MemberPrincipalCache;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.ProviderManager;
-import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -26,6 +30,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.authentication.logout.HttpStatusReturningLogoutSuccessHandler;
 import org.springframework.security.web.authentication.logout.LogoutFilter;
 import org.springframework.security.web.header.writers.XXssProtectionHeaderWriter;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
@@ -38,13 +43,27 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
-  private final LoginService loginService;
   private final ObjectMapper objectMapper;
   private final MemberRepository memberRepository;
+  private final MemberPrincipalCache memberPrincipalCache;
+  private final RefreshTokenService refreshTokenService;
   private final JwtService jwtService;
   private final ApiLoggingFilter apiLoggingFilter;
 
   private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
+  private final MeterRegistry meterRegistry;
+
+  @Value("${login.password-verifier.threads:0}")
+  private int passwordVerifierThreads;
+
+  @Value("${login.password-verifier.queue-capacity:0}")
+  private int passwordVerifierQueueCapacity;
+
+  @Value("${login.password-verifier.timeout:1000}")
+  private long passwordVerifierTimeoutMillis;
+
+  @Value("${server.tomcat.threads.max:200}")
+  private int requestThreads;
 
   @Bean
   SecurityFilterChain filterChain(HttpSecurity httpSecurity) throws Exception {
@@ -61,6 +80,17 @@ public class SecurityConfig {
         .sessionManagement(
             (sessionManagement) ->
                 sessionManagement.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+        // 요청의 refreshToken 을 삭제하고 200 응답 (accessToken 은 만료 시까지 유효)
+        .logout(
+            logout ->
+                logout
+                    .logoutRequestMatcher(new AntPathRequestMatcher("/logout", "POST"))
+                    .addLogoutHandler(
+                        (request, response, authentication) ->
+                            jwtService
+                                .extractRefreshToken(request)
+                                .ifPresent(refreshTokenService::deleteRefreshToken))
+                    .logoutSuccessHandler(new HttpStatusReturningLogoutSuccessHandler()))
         .authorizeHttpRequests(
             (authorizeHttpRequests) ->
                 authorizeHttpRequests
@@ -74,9 +104,12 @@ public class SecurityConfig {
                     .requestMatchers(
                         new AntPathRequestMatcher("/login"),
                         new AntPathRequestMatcher("/api/users/signup"),
-                        new AntPathRequestMatcher("/error"))
+                        new AntPathRequestMatcher("/error"),
+                        new AntPathRequestMatcher("/actuator/prometheus"))
                     .permitAll()
-                    .requestMatchers(new AntPathRequestMatcher("/admin"))
+                    .requestMatchers(
+                        new AntPathRequestMatcher("/admin"),
+                        new AntPathRequestMatcher("/actuator/**"))
                     .hasRole("ADMIN")
                     .requestMatchers(new AntPathRequestMatcher("/api/**/export"))
                     .hasAnyRole("USER", "ADMIN")
@@ -115,17 +148,26 @@ public class SecurityConfig {
     return new BCryptPasswordEncoder();
   }
 
+  @Bean(destroyMethod = "shutdown")
+  public PasswordVerifier passwordVerifier() {
+    return new PasswordVerifier(
+        passwordEncoder(),
+        meterRegistry,
+        passwordVerifierThreads,
+        passwordVerifierQueueCapacity,
+        passwordVerifierTimeoutMillis,
+        requestThreads);
+  }
+
   @Bean
   public AuthenticationManager authenticationManager() {
-    DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
-    provider.setPasswordEncoder(passwordEncoder());
-    provider.setUserDetailsService(loginService);
-    return new ProviderManager(provider);
+    return new ProviderManager(
+        new MemberAuthenticationProvider(memberRepository, passwordVerifier()));
   }
 
   @Bean
   public LoginSuccessJWTProvideHandler loginSuccessJWTProvideHandler() {
-    return new LoginSuccessJWTProvideHandler(jwtService, memberRepository);
+    return new LoginSuccessJWTProvideHandler(jwtService, refreshTokenService);
   }
 
   @Bean
@@ -136,7 +178,7 @@ public class SecurityConfig {
   @Bean
   public JsonUsernamePasswordAuthenticationFilter jsonUsernamePasswordLoginFilter() {
     JsonUsernamePasswordAuthenticationFilter jsonUsernamePasswordLoginFilter =
-        new JsonUsernamePasswordAuthenticationFilter(objectMapper, memberRepository);
+        new JsonUsernamePasswordAuthenticationFilter(objectMapper);
     jsonUsernamePasswordLoginFilter.setAuthenticationManager(authenticationManager());
     jsonUsernamePasswordLoginFilter.setAuthenticationSuccessHandler(
         loginSuccessJWTProvideHandler());
@@ -146,6 +188,7 @@ public class SecurityConfig {
 
   @Bean
   public JwtAuthenticationProcessingFilter jwtAuthenticationProcessingFilter() {
-    return new JwtAuthenticationProcessingFilter(jwtService, memberRepository);
+    return new JwtAuthenticationProcessingFilter(
+        jwtService, refreshTokenService, memberPrincipalCache);
   }
 }
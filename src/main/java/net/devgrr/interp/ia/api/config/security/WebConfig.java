@@ -1,11 +1,36 @@
 package net.devgrr.interp.ia.api.config.security;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.devgrr.interp.ia.api.config.metrics.QueryBudgetFilter;
+import net.devgrr.interp.ia.api.config.metrics.QueryBudgetInterceptor;
+import net.devgrr.interp.ia.api.config.metrics.QueryBudgetMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
+
+  @Value("${api.query-budget.mode:warn}")
+  private QueryBudgetMode queryBudgetMode;
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    registry.addInterceptor(new QueryBudgetInterceptor(queryBudgetMode));
+  }
+
+  //  budget 초과 응답을 커밋 전에 교체하기 위해 응답을 버퍼링 (fail 모드 전용)
+  @Bean
+  @ConditionalOnProperty(name = "api.query-budget.mode", havingValue = "fail")
+  public FilterRegistrationBean<QueryBudgetFilter> queryBudgetFilter(ObjectMapper objectMapper) {
+    return new FilterRegistrationBean<>(new QueryBudgetFilter(objectMapper));
+  }
+
   @Override
   public void addCorsMappings(CorsRegistry registry) {
     registry
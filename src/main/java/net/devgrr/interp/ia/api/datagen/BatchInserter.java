@@ -0,0 +1,43 @@
+package net.devgrr.interp.ia.api.datagen;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/*
+ * 행을 모아 JDBC 배치로 insert
+ * - FK 순서를 지키기 위해 자동 flush 하지 않으며 호출 측에서 상위 테이블부터 flush
+ * */
+class BatchInserter {
+
+  private final JdbcTemplate jdbcTemplate;
+  private final String sql;
+  private final List<Object[]> rows = new ArrayList<>();
+  private long inserted;
+
+  BatchInserter(JdbcTemplate jdbcTemplate, String sql) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.sql = sql;
+  }
+
+  void add(Object... args) {
+    rows.add(args);
+  }
+
+  int pending() {
+    return rows.size();
+  }
+
+  void flush() {
+    if (rows.isEmpty()) {
+      return;
+    }
+    jdbcTemplate.batchUpdate(sql, rows);
+    inserted += rows.size();
+    rows.clear();
+  }
+
+  long inserted() {
+    return inserted;
+  }
+}
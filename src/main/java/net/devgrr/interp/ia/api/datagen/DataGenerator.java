@@ -0,0 +1,454 @@
+package net.devgrr.interp.ia.api.datagen;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.devgrr.interp.ia.api.config.issue.IssueCategory;
+import net.devgrr.interp.ia.api.config.issue.IssueStatus;
+import net.devgrr.interp.ia.api.config.issue.IssueType;
+import net.devgrr.interp.ia.api.config.issue.Priority;
+import net.devgrr.interp.ia.api.member.MemberRole;
+import net.devgrr.interp.ia.api.util.DatabaseUtil;
+import net.devgrr.interp.ia.api.work.issue.IssueSequenceAligner;
+import net.devgrr.interp.ia.api.work.issue.hierarchy.IssueClosureService;
+import net.devgrr.interp.ia.api.work.issue.hierarchy.RelatedIssueGraph;
+import net.devgrr.interp.ia.api.work.project.stats.ProjectStatService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/*
+ * 성능 테스트용 대량 데이터 생성 (datagen 프로필)
+ * - 회원, 프로젝트, 이슈 트리, 태그, 연관 이슈, 댓글 스레드, 변경 이력을 JDBC 배치 insert 로 적재
+ * - 프로젝트/회원/태그 선택은 Zipf 분포(datagen.skew)를 따르므로 일부 프로젝트, 회원에 데이터가 몰림
+ * - 하위 이슈는 같은 프로젝트의 최근 이슈 중 하나를 상위 이슈로 지정 (datagen.max-depth 까지)
+ * - 기존 데이터의 최대 ID 이후부터 생성하므로 기존 데이터가 있어도 실행 가능
+ *   (생성 중 다른 쓰기 작업이 없어야 함)
+ * - 적재 후 issue_closure, project_issue_stat, 연관 이슈 그래프, ID 시퀀스를 재구성
+ * */
+@Slf4j
+@Profile("datagen")
+@RequiredArgsConstructor
+@Component
+public class DataGenerator implements ApplicationRunner {
+
+  // data.sql 과 동일한 "password" 의 BCrypt 해시
+  private static final String PASSWORD_HASH =
+      "$2a$10$z1NLrjhkoPJYzHucx7XVDeENGlYgs1zPt/hQIgtAqentc.Qrkv7m6";
+
+  private static final int PARENT_WINDOW = 64;
+  private static final long SPAN_SECONDS = ChronoUnit.DAYS.getDuration().getSeconds() * 730;
+  private static final int PROGRESS_INTERVAL = 100_000;
+
+  private static final String[] DEPARTMENTS = {"개발팀", "기획팀", "디자인팀", "QA팀", "운영팀"};
+  private static final String[] JOBS = {"백엔드", "프론트엔드", "기획", "디자인", "테스트"};
+  private static final String[] POSITIONS = {"사원", "대리", "과장", "차장", "부장"};
+  private static final String[] HISTORY_FIELDS = {
+    "status", "priority", "title", "assignee", "dueDate"
+  };
+  private static final IssueType[] ROOT_TYPES = {
+    IssueType.EPIC, IssueType.STORY, IssueType.TASK, IssueType.BUG
+  };
+  private static final IssueType[] SUB_TYPES = {IssueType.TASK, IssueType.SUB_TASK, IssueType.BUG};
+
+  private static final String INSERT_MEMBER =
+      "INSERT INTO member (id, email, password, name, position, department, job, phone, role,"
+          + " is_active, created_date) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+  private static final String INSERT_PROJECT =
+      "INSERT INTO project (id, type, status, priority, title, sub_title, creator_id, due_date,"
+          + " start_date, end_date, description, is_deleted, created_date)"
+          + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+  private static final String INSERT_PROJECT_ASSIGNEE =
+      "INSERT INTO project_assignee (project_id, member_id) VALUES (?, ?)";
+  private static final String INSERT_PROJECT_TAG =
+      "INSERT INTO project_tags (project_id, tag) VALUES (?, ?)";
+  private static final String INSERT_ISSUE =
+      "INSERT INTO issue (id, type, status, priority, title, sub_title, creator_id, due_date,"
+          + " start_date, end_date, description, parent_project_id, parent_issue_id, is_deleted,"
+          + " created_date) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+  private static final String INSERT_ISSUE_ASSIGNEE =
+      "INSERT INTO issue_assignee (issue_id, member_id) VALUES (?, ?)";
+  private static final String INSERT_ISSUE_TAG =
+      "INSERT INTO issue_tags (issue_id, tag) VALUES (?, ?)";
+  private static final String INSERT_RELATED_ISSUE =
+      "INSERT INTO issue_related_issues (issue_id, related_issues_id) VALUES (?, ?)";
+  private static final String INSERT_COMMENT =
+      "INSERT INTO comment (id, parent_comment_id, content, member_id, reference_type,"
+          + " reference_id, created_date) VALUES (?, ?, ?, ?, ?, ?, ?)";
+  private static final String INSERT_HISTORY =
+      "INSERT INTO history (category, issue_id, field_name, before_value, after_value,"
+          + " modified_date, modifier_id) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final IssueClosureService issueClosureService;
+  private final ProjectStatService projectStatService;
+  private final RelatedIssueGraph relatedIssueGraph;
+  private final IssueSequenceAligner issueSequenceAligner;
+  private final ConfigurableApplicationContext applicationContext;
+
+  @Value("${datagen.members:5000}")
+  private int memberCount;
+
+  @Value("${datagen.projects:1000}")
+  private int projectCount;
+
+  @Value("${datagen.issues:2000000}")
+  private int issueCount;
+
+  @Value("${datagen.skew:1.1}")
+  private double skew;
+
+  @Value("${datagen.max-depth:6}")
+  private int maxDepth;
+
+  @Value("${datagen.sub-issue-ratio:0.7}")
+  private double subIssueRatio;
+
+  @Value("${datagen.tags:200}")
+  private int tagCount;
+
+  @Value("${datagen.related-per-issue:0.5}")
+  private double relatedPerIssue;
+
+  @Value("${datagen.comments-per-issue:1.0}")
+  private double commentsPerIssue;
+
+  @Value("${datagen.reply-ratio:0.4}")
+  private double replyRatio;
+
+  @Value("${datagen.histories-per-issue:2.0}")
+  private double historiesPerIssue;
+
+  @Value("${datagen.deleted-ratio:0.02}")
+  private double deletedRatio;
+
+  @Value("${datagen.batch-size:1000}")
+  private int batchSize;
+
+  @Value("${datagen.seed:42}")
+  private long seed;
+
+  @Value("${datagen.exit-on-complete:true}")
+  private boolean exitOnComplete;
+
+  // run 1회 실행 동안의 상태
+  private SplittableRandom random;
+  private ZipfSampler memberSampler;
+  private ZipfSampler tagSampler;
+  private LocalDateTime origin;
+  private long firstMemberId;
+  private long nextCommentId;
+  private BatchInserter comments;
+  private BatchInserter histories;
+
+  @Override
+  public void run(ApplicationArguments args) {
+    if (memberCount <= 0 || (issueCount > 0 && projectCount <= 0)) {
+      throw new IllegalArgumentException("datagen.members, datagen.projects must be positive.");
+    }
+    long started = System.nanoTime();
+    random = new SplittableRandom(seed);
+    memberSampler = new ZipfSampler(memberCount, skew);
+    tagSampler = new ZipfSampler(Math.max(tagCount, 1), skew);
+    origin = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).minusSeconds(SPAN_SECONDS);
+    comments = new BatchInserter(jdbcTemplate, INSERT_COMMENT);
+    histories = new BatchInserter(jdbcTemplate, INSERT_HISTORY);
+
+    firstMemberId = nextId("member");
+    long firstProjectId = nextId("project");
+    long firstIssueId = nextId("issue");
+    nextCommentId = nextId("comment");
+    log.info(
+        "Generating {} members, {} projects, {} issues (skew: {}, seed: {}).",
+        memberCount,
+        projectCount,
+        issueCount,
+        skew,
+        seed);
+
+    generateMembers();
+    generateProjects(firstProjectId);
+    generateIssues(firstProjectId, firstIssueId);
+
+    log.info("Rebuilding issue_closure, project_issue_stat and related issue graph.");
+    issueClosureService.rebuild();
+    projectStatService.rebuild();
+    relatedIssueGraph.rebuild();
+    issueSequenceAligner.align();
+    alignIdentities();
+
+    log.info(
+        "Generated {} comments, {} histories in {} s.",
+        comments.inserted(),
+        histories.inserted(),
+        (System.nanoTime() - started) / 1_000_000_000);
+    if (exitOnComplete) {
+      System.exit(SpringApplication.exit(applicationContext));
+    }
+  }
+
+  private void generateMembers() {
+    BatchInserter members = new BatchInserter(jdbcTemplate, INSERT_MEMBER);
+    for (int i = 0; i < memberCount; i++) {
+      long id = firstMemberId + i;
+      members.add(
+          id,
+          "datagen" + id + "@interp.dev",
+          PASSWORD_HASH,
+          "회원" + id,
+          POSITIONS[i % POSITIONS.length],
+          DEPARTMENTS[i % DEPARTMENTS.length],
+          JOBS[i % JOBS.length],
+          "010-" + String.format("%04d-%04d", (id / 10000) % 10000, id % 10000),
+          MemberRole.USER.name(),
+          true,
+          origin.plusMinutes(i));
+      if (members.pending() >= batchSize) {
+        members.flush();
+      }
+    }
+    members.flush();
+  }
+
+  private void generateProjects(long firstProjectId) {
+    BatchInserter projects = new BatchInserter(jdbcTemplate, INSERT_PROJECT);
+    BatchInserter assignees = new BatchInserter(jdbcTemplate, INSERT_PROJECT_ASSIGNEE);
+    BatchInserter tags = new BatchInserter(jdbcTemplate, INSERT_PROJECT_TAG);
+    List<BatchInserter> batch = List.of(projects, assignees, tags, comments);
+
+    for (int i = 0; i < projectCount; i++) {
+      long id = firstProjectId + i;
+      LocalDateTime created = origin.plusHours(i);
+      LocalDate startDate = created.toLocalDate();
+      projects.add(
+          id,
+          IssueType.PROJECT.name(),
+          pick(IssueStatus.values()).name(),
+          pick(Priority.values()).name(),
+          "프로젝트 " + id,
+          "부제목 " + id,
+          memberId(),
+          startDate.plusDays(90 + random.nextInt(270)),
+          startDate,
+          null,
+          "프로젝트 " + id + " 설명",
+          false,
+          created);
+      for (Long memberId : memberIds(1 + random.nextInt(5))) {
+        assignees.add(id, memberId);
+      }
+      for (String tag : tags(random.nextInt(4))) {
+        tags.add(id, tag);
+      }
+      addComments(IssueCategory.PROJECT, id, created);
+      if (projects.pending() >= batchSize) {
+        batch.forEach(BatchInserter::flush);
+      }
+    }
+    batch.forEach(BatchInserter::flush);
+  }
+
+  private void generateIssues(long firstProjectId, long firstIssueId) {
+    BatchInserter issues = new BatchInserter(jdbcTemplate, INSERT_ISSUE);
+    BatchInserter assignees = new BatchInserter(jdbcTemplate, INSERT_ISSUE_ASSIGNEE);
+    BatchInserter tags = new BatchInserter(jdbcTemplate, INSERT_ISSUE_TAG);
+    BatchInserter related = new BatchInserter(jdbcTemplate, INSERT_RELATED_ISSUE);
+    // 상위 테이블부터 flush
+    List<BatchInserter> batch = List.of(issues, assignees, tags, related, comments, histories);
+
+    ZipfSampler projectSampler = new ZipfSampler(projectCount, skew);
+    ParentWindow[] windows = new ParentWindow[projectCount];
+    for (int p = 0; p < projectCount; p++) {
+      windows[p] = new ParentWindow(PARENT_WINDOW);
+    }
+    long step = Math.max(1, SPAN_SECONDS / Math.max(issueCount, 1));
+
+    for (int i = 0; i < issueCount; i++) {
+      long id = firstIssueId + i;
+      int projectIndex = projectSampler.sample(random);
+      ParentWindow window = windows[projectIndex];
+
+      Long parentId = null;
+      int depth = 0;
+      if (window.size() > 0 && random.nextDouble() < subIssueRatio) {
+        int slot = random.nextInt(window.size());
+        if (window.depth(slot) < maxDepth) {
+          parentId = window.id(slot);
+          depth = window.depth(slot) + 1;
+        }
+      }
+      window.add(id, depth);
+
+      LocalDateTime created = origin.plusSeconds(step * i);
+      LocalDate startDate = created.toLocalDate();
+      IssueStatus status = pick(IssueStatus.values());
+      issues.add(
+          id,
+          (parentId == null ? pick(ROOT_TYPES) : pick(SUB_TYPES)).name(),
+          status.name(),
+          pick(Priority.values()).name(),
+          "이슈 " + id,
+          "부제목 " + id,
+          memberId(),
+          startDate.plusDays(7 + random.nextInt(84)),
+          startDate,
+          status == IssueStatus.DONE ? startDate.plusDays(1 + random.nextInt(30)) : null,
+          "이슈 " + id + " 설명",
+          firstProjectId + projectIndex,
+          parentId,
+          random.nextDouble() < deletedRatio,
+          created);
+
+      for (Long memberId : memberIds(random.nextInt(4))) {
+        assignees.add(id, memberId);
+      }
+      for (String tag : tags(random.nextInt(4))) {
+        tags.add(id, tag);
+      }
+      // 연관 이슈는 먼저 생성된 이슈 중에서 선택
+      if (id > firstIssueId) {
+        Set<Long> relatedIds = new LinkedHashSet<>();
+        for (int r = geometric(relatedPerIssue); r > 0; r--) {
+          relatedIds.add(firstIssueId + random.nextLong(id - firstIssueId));
+        }
+        relatedIds.forEach(relatedId -> related.add(id, relatedId));
+      }
+      addComments(IssueCategory.ISSUE, id, created);
+      addHistories(id, created);
+
+      if (issues.pending() >= batchSize) {
+        batch.forEach(BatchInserter::flush);
+      }
+      if ((i + 1) % PROGRESS_INTERVAL == 0) {
+        log.info("Generated {} / {} issues.", i + 1, issueCount);
+      }
+    }
+    batch.forEach(BatchInserter::flush);
+  }
+
+  // 답글은 같은 대상의 앞선 댓글 중 하나를 부모 댓글로 지정
+  private void addComments(IssueCategory category, long referenceId, LocalDateTime created) {
+    long threadStart = nextCommentId;
+    for (int c = geometric(commentsPerIssue); c > 0; c--) {
+      long id = nextCommentId++;
+      Long parentId =
+          id > threadStart && random.nextDouble() < replyRatio
+              ? threadStart + random.nextLong(id - threadStart)
+              : null;
+      comments.add(
+          id,
+          parentId,
+          "댓글 " + id,
+          memberId(),
+          category.name(),
+          referenceId,
+          created.plusMinutes(id - threadStart + 1));
+    }
+  }
+
+  private void addHistories(long issueId, LocalDateTime created) {
+    for (int h = geometric(historiesPerIssue); h > 0; h--) {
+      histories.add(
+          IssueCategory.ISSUE.name(),
+          issueId,
+          pick(HISTORY_FIELDS),
+          "이전 값",
+          "변경 값",
+          created.plusHours(h),
+          memberId());
+    }
+  }
+
+  // MariaDB 의 AUTO_INCREMENT 는 명시한 ID 이후로 자동 조정되지만 H2 의 IDENTITY 는 직접 조정 필요
+  private void alignIdentities() {
+    if (!DatabaseUtil.isH2(jdbcTemplate)) {
+      return;
+    }
+    for (String table : List.of("member", "project", "comment")) {
+      jdbcTemplate.execute(
+          "ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + nextId(table));
+    }
+  }
+
+  private long nextId(String table) {
+    Long maxId =
+        jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+    return (maxId != null ? maxId : 0L) + 1;
+  }
+
+  private long memberId() {
+    return firstMemberId + memberSampler.sample(random);
+  }
+
+  private Set<Long> memberIds(int count) {
+    Set<Long> ids = new LinkedHashSet<>();
+    for (int attempt = 0; ids.size() < count && attempt < count * 4; attempt++) {
+      ids.add(memberId());
+    }
+    return ids;
+  }
+
+  private Set<String> tags(int count) {
+    Set<String> tags = new LinkedHashSet<>();
+    for (int attempt = 0; tags.size() < count && attempt < count * 4; attempt++) {
+      tags.add("tag-" + tagSampler.sample(random));
+    }
+    return tags;
+  }
+
+  // 평균이 mean 인 기하 분포 (대부분 0 ~ 1 이고 일부가 큰 값)
+  private int geometric(double mean) {
+    if (mean <= 0) {
+      return 0;
+    }
+    double p = 1 / (1 + mean);
+    return (int) (Math.log(1 - random.nextDouble()) / Math.log(1 - p));
+  }
+
+  private <T> T pick(T[] values) {
+    return values[random.nextInt(values.length)];
+  }
+
+  // 프로젝트별 최근 생성 이슈 (ID, 깊이) 원형 버퍼
+  private static class ParentWindow {
+    private final long[] ids;
+    private final int[] depths;
+    private int size;
+    private int next;
+
+    ParentWindow(int capacity) {
+      ids = new long[capacity];
+      depths = new int[capacity];
+    }
+
+    void add(long id, int depth) {
+      ids[next] = id;
+      depths[next] = depth;
+      next = (next + 1) % ids.length;
+      size = Math.min(size + 1, ids.length);
+    }
+
+    int size() {
+      return size;
+    }
+
+    long id(int slot) {
+      return ids[slot];
+    }
+
+    int depth(int slot) {
+      return depths[slot];
+    }
+  }
+}
@@ -0,0 +1,35 @@
+package net.devgrr.interp.ia.api.datagen;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/*
+ * 0 ~ size-1 범위의 Zipf 분포 표본 추출
+ * - 순위 k 의 가중치 1 / (k + 1)^skew, skew 0 이면 균등 분포
+ * - 누적 가중치를 미리 계산하고 이진 탐색으로 추출
+ * */
+class ZipfSampler {
+
+  private final double[] cumulative;
+
+  ZipfSampler(int size, double skew) {
+    if (size <= 0) {
+      throw new IllegalArgumentException("size must be positive: " + size);
+    }
+    cumulative = new double[size];
+    double sum = 0;
+    for (int k = 0; k < size; k++) {
+      sum += 1.0 / Math.pow(k + 1, skew);
+      cumulative[k] = sum;
+    }
+    for (int k = 0; k < size; k++) {
+      cumulative[k] /= sum;
+    }
+  }
+
+  int sample(SplittableRandom random) {
+    int index = Arrays.binarySearch(cumulative, random.nextDouble());
+    int rank = index >= 0 ? index : -index - 1;
+    return Math.min(rank, cumulative.length - 1);
+  }
+}
@@ -17,6 +17,11 @@ public class JwtController {
     @ResponseStatus(HttpStatus.OK)
     public void getNewAccessToken() {}
 
+    @Operation(description = "refreshToken 을 삭제하여 로그아웃한다. (Refreshtoken 헤더 필요)")
+    @PostMapping("/logout")
+    @ResponseStatus(HttpStatus.OK)
+    public void logout() {}
+
     @Operation(description = "/admin 엔드포인트 테스트 컨트롤러")
     @GetMapping("/admin")
     @ResponseStatus(HttpStatus.OK)
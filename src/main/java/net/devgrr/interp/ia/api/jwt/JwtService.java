@@ -1,20 +1,25 @@
 package net.devgrr.interp.ia.api.jwt;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.util.Date;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
-import net.devgrr.interp.ia.api.config.exception.BaseException;
-import net.devgrr.interp.ia.api.config.exception.ErrorCode;
-import net.devgrr.interp.ia.api.config.mapStruct.MemberMapper;
-import net.devgrr.interp.ia.api.member.MemberRepository;
-import net.devgrr.interp.ia.api.member.entity.Member;
-import org.springframework.beans.factory.annotation.Autowired;
+import net.devgrr.interp.ia.api.util.HashUtil;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.stereotype.Service;
@@ -30,8 +35,7 @@ public class JwtService {
   private static final String REFRESH_TOKEN_SUBJECT = "RefreshToken";
   private static final String USERID_CLAIM = "username";
   private static final String BEARER = "Bearer ";
-  private final MemberRepository memberRepository;
-  @Autowired private MemberMapper memberMapper;
+  private final MeterRegistry meterRegistry;
 
   @Value("${jwt.secret}")
   private String secret;
@@ -48,41 +52,73 @@ public class JwtService {
   @Value("${jwt.refresh.header}")
   private String refreshHeader;
 
+  @Value("${jwt.verified-cache.max-size:10000}")
+  private long verifiedCacheMaxSize;
+
+  /*
+   * 서명 키, 검증기는 기동 시 한 번만 생성하여 재사용 (thread-safe)
+   * 검증된 토큰은 SHA-256 digest 를 key 로 만료 시각(exp)까지 캐시하여
+   * 같은 토큰의 HMAC 서명 검증을 반복하지 않음
+   * */
+  private Algorithm algorithm;
+  private JWTVerifier verifier;
+  private Cache<String, DecodedJWT> verifiedTokens;
+
+  @PostConstruct
+  void init() {
+    algorithm = Algorithm.HMAC512(secret);
+    verifier = JWT.require(algorithm).build();
+    verifiedTokens =
+        Caffeine.newBuilder()
+            .maximumSize(verifiedCacheMaxSize)
+            .expireAfter(
+                new Expiry<String, DecodedJWT>() {
+                  @Override
+                  public long expireAfterCreate(String key, DecodedJWT jwt, long currentTime) {
+                    return remainingNanos(jwt);
+                  }
+
+                  @Override
+                  public long expireAfterUpdate(
+                      String key, DecodedJWT jwt, long currentTime, long currentDuration) {
+                    return remainingNanos(jwt);
+                  }
+
+                  @Override
+                  public long expireAfterRead(
+                      String key, DecodedJWT jwt, long currentTime, long currentDuration) {
+                    return currentDuration;
+                  }
+                })
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt.verified");
+  }
+
+  private static long remainingNanos(DecodedJWT jwt) {
+    Date expiresAt = jwt.getExpiresAt();
+    if (expiresAt == null) {
+      return 0;
+    }
+    long remainingMillis = expiresAt.getTime() - System.currentTimeMillis();
+    return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+  }
+
   public String createAccessToken(String email) {
     return JWT.create()
         .withSubject(ACCESS_TOKEN_SUBJECT)
         .withExpiresAt(new Date(System.currentTimeMillis() + accessTokenValidityInSeconds * 1000))
         .withClaim(USERID_CLAIM, email)
-        .sign(Algorithm.HMAC512(secret));
+        .sign(algorithm);
   }
 
+  // 같은 시각에 발급된 토큰도 digest 가 겹치지 않도록 jti 지정
   public String createRefreshToken() {
     return JWT.create()
         .withSubject(REFRESH_TOKEN_SUBJECT)
+        .withJWTId(UUID.randomUUID().toString())
         .withExpiresAt(new Date(System.currentTimeMillis() + refreshTokenValidityInSeconds * 1000))
-        .sign(Algorithm.HMAC512(secret));
-  }
-
-  public void updateRefreshToken(String email, String refreshToken) throws Exception {
-    memberRepository
-        .findByEmail(email)
-        .ifPresentOrElse(
-            member ->
-                memberRepository.save(
-                    memberMapper.updateMemberRefreshToken(
-                        Member.builder().refreshToken(refreshToken).build(), member)),
-            () -> new Exception("Not found user"));
-  }
-
-  public void destroyRefreshToken(String email) throws Exception {
-    memberRepository
-        .findByEmail(email)
-        .ifPresentOrElse(
-            member ->
-                memberRepository.save(
-                    memberMapper.updateMemberRefreshToken(
-                        Member.builder().refreshToken(null).build(), member)),
-            () -> new Exception("Not found user"));
+        .sign(algorithm);
   }
 
   public void sendAccessAndRefreshToken(
@@ -109,20 +145,31 @@ public class JwtService {
         .map(refreshToken -> refreshToken.replace(BEARER, ""));
   }
 
-  public Optional<String> extractUserId(String accessToken) {
+  /*
+   * 토큰 서명, 만료 여부를 검증하고 디코딩된 토큰을 반환
+   * - 검증 실패 시 request 의 exception 속성에 예외를 저장하고 empty 반환
+   * - 만료 전까지는 캐시된 검증 결과를 사용
+   * */
+  public Optional<DecodedJWT> verify(HttpServletRequest request, String token) {
+    String digest = HashUtil.sha256Hex(token);
+    DecodedJWT cached = verifiedTokens.getIfPresent(digest);
+    if (cached != null) {
+      return Optional.of(cached);
+    }
     try {
-      return Optional.ofNullable(
-          JWT.require(Algorithm.HMAC512(secret))
-              .build()
-              .verify(accessToken)
-              .getClaim(USERID_CLAIM)
-              .asString());
+      DecodedJWT jwt = verifier.verify(token);
+      verifiedTokens.put(digest, jwt);
+      return Optional.of(jwt);
     } catch (Exception e) {
-      System.out.println("[ERROR] extractUserId : " + e.getMessage());
+      request.setAttribute("exception", e);
       return Optional.empty();
     }
   }
 
+  public Optional<String> extractUserId(DecodedJWT jwt) {
+    return Optional.ofNullable(jwt.getClaim(USERID_CLAIM).asString());
+  }
+
   public void setAccessTokenHeader(HttpServletResponse response, String accessToken) {
     response.setHeader(accessHeader, accessToken);
   }
@@ -132,12 +179,6 @@ public class JwtService {
   }
 
   public boolean isTokenValid(HttpServletRequest request, String token) {
-    try {
-      JWT.require(Algorithm.HMAC512(secret)).build().verify(token);
-      return true;
-    } catch (Exception e) {
-      request.setAttribute("exception", e);
-      return false;
-    }
+    return verify(request, token).isPresent();
   }
 }
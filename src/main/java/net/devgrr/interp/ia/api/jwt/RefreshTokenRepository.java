@@ -0,0 +1,37 @@
+package net.devgrr.interp.ia.api.jwt;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import net.devgrr.interp.ia.api.jwt.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+  @Query(
+      "select m.email from RefreshToken t join t.member m"
+          + " where t.tokenHash = :tokenHash and t.expiresAt > :now")
+  Optional<String> findMemberEmail(
+      @Param("tokenHash") String tokenHash, @Param("now") LocalDateTime now);
+
+  // 만료되지 않은 토큰, 최근 발급 순
+  @Query(
+      "select t.id from RefreshToken t"
+          + " where t.member.id = :memberId and t.expiresAt > :now order by t.expiresAt desc")
+  List<Long> findActiveIds(@Param("memberId") Long memberId, @Param("now") LocalDateTime now);
+
+  @Modifying
+  @Query("delete from RefreshToken t where t.id in :ids")
+  int deleteAllByIds(@Param("ids") List<Long> ids);
+
+  @Modifying
+  @Query("delete from RefreshToken t where t.tokenHash = :tokenHash")
+  int deleteByTokenHash(@Param("tokenHash") String tokenHash);
+
+  @Modifying
+  @Query("delete from RefreshToken t where t.expiresAt <= :now")
+  int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,76 @@
+package net.devgrr.interp.ia.api.jwt;
+
+import com.auth0.jwt.JWT;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import net.devgrr.interp.ia.api.jwt.entity.RefreshToken;
+import net.devgrr.interp.ia.api.member.entity.Member;
+import net.devgrr.interp.ia.api.util.HashUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/*
+ * Refresh Token 저장소
+ * - 토큰 원문 대신 SHA-256 digest(CHAR(64), unique) 를 저장하여 재발급 시 단일 인덱스 조회로 처리
+ * - 회원당 최대 max-per-member 개 기기까지 유지, 초과 시 오래된 토큰부터 삭제
+ * - 만료된 토큰은 주기적으로 일괄 삭제
+ * */
+@Slf4j
+@Transactional(readOnly = true)
+@Service
+public class RefreshTokenService {
+
+  private final RefreshTokenRepository refreshTokenRepository;
+  private final int maxPerMember;
+
+  public RefreshTokenService(
+      RefreshTokenRepository refreshTokenRepository,
+      @Value("${jwt.refresh.max-per-member:5}") int maxPerMember) {
+    this.refreshTokenRepository = refreshTokenRepository;
+    this.maxPerMember = maxPerMember;
+  }
+
+  // 만료되지 않은 토큰의 회원 이메일 반환
+  public Optional<String> getMemberEmail(String refreshToken) {
+    return refreshTokenRepository.findMemberEmail(
+        HashUtil.sha256Hex(refreshToken), LocalDateTime.now());
+  }
+
+  @Transactional
+  public void setRefreshToken(Member member, String refreshToken) {
+    LocalDateTime expiresAt =
+        LocalDateTime.ofInstant(
+            JWT.decode(refreshToken).getExpiresAt().toInstant(), ZoneId.systemDefault());
+    refreshTokenRepository.save(
+        RefreshToken.builder()
+            .tokenHash(HashUtil.sha256Hex(refreshToken))
+            .member(member)
+            .expiresAt(expiresAt)
+            .build());
+
+    List<Long> activeIds =
+        refreshTokenRepository.findActiveIds(member.getId(), LocalDateTime.now());
+    if (activeIds.size() > maxPerMember) {
+      refreshTokenRepository.deleteAllByIds(activeIds.subList(maxPerMember, activeIds.size()));
+    }
+  }
+
+  @Transactional
+  public void deleteRefreshToken(String refreshToken) {
+    refreshTokenRepository.deleteByTokenHash(HashUtil.sha256Hex(refreshToken));
+  }
+
+  @Scheduled(cron = "${jwt.refresh.cleanup-cron:0 0 * * * *}")
+  @Transactional
+  public void deleteExpiredRefreshTokens() {
+    int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+    if (deleted > 0) {
+      log.info("Deleted {} expired refresh tokens.", deleted);
+    }
+  }
+}
@@ -0,0 +1,52 @@
+package net.devgrr.interp.ia.api.jwt.entity;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import net.devgrr.interp.ia.api.member.entity.Member;
+
+@Getter
+@Builder
+@Entity
+@Table(
+    name = "refresh_token",
+    indexes = {
+      @Index(name = "idx_refresh_token_member", columnList = "member_id, expires_at"),
+      @Index(name = "idx_refresh_token_expires_at", columnList = "expires_at")
+    })
+@Schema(description = "Refresh Token 엔티티 (회원당 여러 기기 허용)")
+@AllArgsConstructor
+@NoArgsConstructor
+public class RefreshToken {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Schema(description = "고유 ID")
+  private Long id;
+
+  @Column(name = "token_hash", nullable = false, unique = true, columnDefinition = "CHAR(64)")
+  @Schema(description = "토큰 SHA-256 digest (16진수)")
+  private String tokenHash;
+
+  @ManyToOne(fetch = FetchType.LAZY, optional = false)
+  @JoinColumn(name = "member_id", nullable = false)
+  @Schema(description = "회원")
+  private Member member;
+
+  @Column(name = "expires_at", nullable = false)
+  @Schema(description = "만료 일시")
+  private LocalDateTime expiresAt;
+}
@@ -7,8 +7,9 @@ import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import lombok.RequiredArgsConstructor;
 import net.devgrr.interp.ia.api.jwt.JwtService;
-import net.devgrr.interp.ia.api.member.MemberRepository;
-import net.devgrr.interp.ia.api.member.entity.Member;
+import net.devgrr.interp.ia.api.jwt.RefreshTokenService;
+import net.devgrr.interp.ia.api.member.cache.CachedPrincipal;
+import net.devgrr.interp.ia.api.member.cache.MemberPrincipalCache;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -16,7 +17,6 @@ import org.springframework.security.core.authority.mapping.GrantedAuthoritiesMap
 import org.springframework.security.core.authority.mapping.NullAuthoritiesMapper;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -25,7 +25,8 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
   private static final String JWT_REQUEST_URL = "/refresh";
 
   private final JwtService jwtService;
-  private final MemberRepository memberRepository;
+  private final RefreshTokenService refreshTokenService;
+  private final MemberPrincipalCache memberPrincipalCache;
   private GrantedAuthoritiesMapper authoritiesMapper = new NullAuthoritiesMapper();
 
   @Override
@@ -57,9 +58,14 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
       return;
     }
 
-    Member member = memberRepository.findByRefreshToken(refreshToken).orElse(null);
-    if (member == null) {
-      // RefreshToken 이 저장된 Member 없음 : 401 error
+    CachedPrincipal principal =
+        refreshTokenService
+            .getMemberEmail(refreshToken)
+            .flatMap(memberPrincipalCache::get)
+            .filter(CachedPrincipal::isActive)
+            .orElse(null);
+    if (principal == null) {
+      // RefreshToken 이 저장된 활성 Member 없음 : 401 error
       setException(request, "cannot find member by Refresh Token");
       return;
     }
@@ -67,8 +73,8 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
     // Access Token 재발급
     // securityContext 에 refreshToken 가지고 있는 Member 정보 저장
     // /refresh => User 이상 권한 필요함
-    saveAuthentication(member);
-    jwtService.sendAccessToken(response, jwtService.createAccessToken(member.getEmail()));
+    saveAuthentication(principal);
+    jwtService.sendAccessToken(response, jwtService.createAccessToken(principal.email()));
   }
 
   private void setException(HttpServletRequest request, String message) {
@@ -85,23 +91,18 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
       setException(request, "token is null");
       return;
     }
-    if (!jwtService.isTokenValid(request, accessToken)) {
-      return;
-    }
 
+    // 토큰 검증은 한 번만 수행, 비활성화된 회원은 유효한 토큰이 있어도 인증하지 않음
     jwtService
-        .extractUserId(accessToken)
-        .flatMap(memberRepository::findByEmail)
+        .verify(request, accessToken)
+        .flatMap(jwtService::extractUserId)
+        .flatMap(memberPrincipalCache::get)
+        .filter(CachedPrincipal::isActive)
         .ifPresent(this::saveAuthentication);
   }
 
-  private void saveAuthentication(Member member) {
-    UserDetails user =
-        User.builder()
-            .username(member.getEmail())
-            .password(member.getPassword())
-            .roles(member.getRole().name())
-            .build();
+  private void saveAuthentication(CachedPrincipal principal) {
+    UserDetails user = principal.toUserDetails();
 
     Authentication authentication =
         new UsernamePasswordAuthenticationToken(
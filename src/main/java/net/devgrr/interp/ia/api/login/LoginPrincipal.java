@@ -0,0 +1,21 @@
+package net.devgrr.interp.ia.api.login;
+
+import lombok.Getter;
+import net.devgrr.interp.ia.api.member.entity.Member;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.userdetails.User;
+
+// 로그인 성공 후 처리(refresh token 저장)에서 회원을 다시 조회하지 않도록 조회한 회원을 함께 보관
+@Getter
+public class LoginPrincipal extends User {
+
+  private final transient Member member;
+
+  public LoginPrincipal(Member member) {
+    super(
+        member.getEmail(),
+        member.getPassword(),
+        AuthorityUtils.createAuthorityList("ROLE_" + member.getRole().name()));
+    this.member = member;
+  }
+}
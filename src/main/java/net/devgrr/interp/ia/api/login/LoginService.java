@@ -1,31 +0,0 @@
-package net.devgrr.interp.ia.api.login;
-
-import lombok.RequiredArgsConstructor;
-import net.devgrr.interp.ia.api.member.MemberRepository;
-import net.devgrr.interp.ia.api.member.entity.Member;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.stereotype.Service;
-
-@Service
-@RequiredArgsConstructor
-public class LoginService implements UserDetailsService {
-
-  private final MemberRepository memberRepository;
-
-  @Override
-  public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-    Member member =
-        memberRepository
-            .findByEmail(email)
-            .orElseThrow(() -> new UsernameNotFoundException("Not found user"));
-
-    return User.builder()
-        .username(member.getEmail())
-        .password(member.getPassword())
-        .roles(member.getRole().name())
-        .build();
-  }
-}
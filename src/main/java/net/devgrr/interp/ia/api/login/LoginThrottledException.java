@@ -0,0 +1,11 @@
+package net.devgrr.interp.ia.api.login;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+// 비밀번호 검증 대기열 초과 등 일시적인 과부하로 로그인을 처리할 수 없는 경우
+public class LoginThrottledException extends AuthenticationServiceException {
+
+  public LoginThrottledException(String message) {
+    super(message);
+  }
+}
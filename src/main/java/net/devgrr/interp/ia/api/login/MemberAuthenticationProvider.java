@@ -0,0 +1,53 @@
+package net.devgrr.interp.ia.api.login;
+
+import lombok.RequiredArgsConstructor;
+import net.devgrr.interp.ia.api.member.MemberRepository;
+import net.devgrr.interp.ia.api.member.entity.Member;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+
+/*
+ * 로그인 인증
+ * - 회원 조회 1회로 존재 여부, 활성 여부, 비밀번호를 모두 확인
+ * - 비밀번호 검증은 PasswordVerifier 의 전용 스레드 풀에서 수행
+ * */
+@RequiredArgsConstructor
+public class MemberAuthenticationProvider implements AuthenticationProvider {
+
+  private final MemberRepository memberRepository;
+  private final PasswordVerifier passwordVerifier;
+
+  @Override
+  public Authentication authenticate(Authentication authentication)
+      throws AuthenticationException {
+    String email = authentication.getName();
+    Object credentials = authentication.getCredentials();
+
+    Member member =
+        memberRepository
+            .findByEmail(email)
+            .orElseThrow(() -> new BadCredentialsException("잘못된 이메일: " + email));
+
+    if (!Boolean.TRUE.equals(member.getIsActive())) {
+      throw new DisabledException("비활성화된 계정입니다.");
+    }
+
+    if (credentials == null
+        || !passwordVerifier.matches(credentials.toString(), member.getPassword())) {
+      throw new BadCredentialsException("잘못된 비밀번호입니다.");
+    }
+
+    LoginPrincipal principal = new LoginPrincipal(member);
+    return UsernamePasswordAuthenticationToken.authenticated(
+        principal, null, principal.getAuthorities());
+  }
+
+  @Override
+  public boolean supports(Class<?> authentication) {
+    return UsernamePasswordAuthenticationToken.class.isAssignableFrom(authentication);
+  }
+}
@@ -0,0 +1,98 @@
+package net.devgrr.interp.ia.api.login;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/*
+ * 비밀번호(BCrypt) 검증 전용 스레드 풀
+ * - 로그인 요청이 몰려도 BCrypt 연산이 Tomcat 요청 스레드를 모두 점유하지 않도록 동시 실행 수를 제한
+ * - 스레드 수 미지정(0) 시 CPU 코어 수만큼 생성
+ * - 검증 결과를 기다리는 동안 요청 스레드가 대기하므로 대기열은 작게 유지
+ *   - 대기열 크기 미지정(0) 시 스레드 수와 동일
+ *   - 실행 중 + 대기 중 검증 수가 요청 스레드 수의 1/4 을 넘지 않도록 대기열 크기를 제한
+ * - 대기열이 가득 차면 기다리지 않고 바로, 대기 시간이 초과되면 LoginThrottledException (503) 반환
+ * - 풀/대기열 상태는 executor.* 지표 (name: login.password) 로 노출
+ * */
+@Slf4j
+public class PasswordVerifier {
+
+  private final PasswordEncoder passwordEncoder;
+  private final ExecutorService executor;
+  private final long timeoutMillis;
+
+  public PasswordVerifier(
+      PasswordEncoder passwordEncoder,
+      MeterRegistry meterRegistry,
+      int threads,
+      int queueCapacity,
+      long timeoutMillis,
+      int requestThreads) {
+    this.passwordEncoder = passwordEncoder;
+    this.timeoutMillis = timeoutMillis;
+
+    int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    int capacity = queueCapacity > 0 ? queueCapacity : poolSize;
+    int maxCapacity = Math.max(1, requestThreads / 4 - poolSize);
+    if (capacity > maxCapacity) {
+      log.warn(
+          "Password verifier queue capacity {} limited to {} ({} request threads).",
+          capacity,
+          maxCapacity,
+          requestThreads);
+      capacity = maxCapacity;
+    }
+    AtomicInteger sequence = new AtomicInteger();
+    ThreadPoolExecutor pool =
+        new ThreadPoolExecutor(
+            poolSize,
+            poolSize,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(capacity),
+            runnable -> {
+              Thread thread = new Thread(runnable, "login-password-" + sequence.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+    this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, "login.password");
+  }
+
+  public boolean matches(String rawPassword, String encodedPassword) {
+    Future<Boolean> result;
+    try {
+      result = executor.submit(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    } catch (RejectedExecutionException e) {
+      throw new LoginThrottledException("로그인 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    try {
+      return result.get(timeoutMillis, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      result.cancel(true);
+      throw new LoginThrottledException("로그인 처리 시간이 초과되었습니다. 잠시 후 다시 시도해주세요.");
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new AuthenticationServiceException("로그인 처리가 중단되었습니다.", e);
+    } catch (ExecutionException e) {
+      log.error("Password verification failed.", e.getCause());
+      throw new AuthenticationServiceException("비밀번호 검증에 실패했습니다.", e.getCause());
+    }
+  }
+
+  public void shutdown() {
+    executor.shutdown();
+  }
+}
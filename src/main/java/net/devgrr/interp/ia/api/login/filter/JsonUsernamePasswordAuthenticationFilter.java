@@ -7,11 +7,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
-import net.devgrr.interp.ia.api.member.MemberRepository;
-import net.devgrr.interp.ia.api.member.entity.Member;
 import org.springframework.security.authentication.AuthenticationServiceException;
-import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
@@ -31,12 +27,10 @@ public class JsonUsernamePasswordAuthenticationFilter
   private static final AntPathRequestMatcher DEFAULT_LOGIN_PATH_REQUEST_MATCHER =
       new AntPathRequestMatcher(DEFAULT_LOGIN_REQUEST_URL, HTTP_METHOD);
   private final ObjectMapper objectMapper;
-  private final MemberRepository memberRepository;
 
-  public JsonUsernamePasswordAuthenticationFilter(ObjectMapper objectMapper, MemberRepository memberRepository) {
+  public JsonUsernamePasswordAuthenticationFilter(ObjectMapper objectMapper) {
     super(DEFAULT_LOGIN_PATH_REQUEST_MATCHER);
     this.objectMapper = objectMapper;
-    this.memberRepository = memberRepository;
   }
 
   @Override
@@ -53,15 +47,7 @@ public class JsonUsernamePasswordAuthenticationFilter
     Map<String, String> userEmailPasswordMap =
         objectMapper.readValue(messageBody, new TypeReference<>() {});
 
-    String email = userEmailPasswordMap.get(USER_EMAIL_KEY);
-
-    Member member =
-        memberRepository.findByEmail(email).orElseThrow(() -> new BadCredentialsException("잘못된 이메일: "+email));
-
-    if(!member.getIsActive()) {
-      throw new DisabledException("비활성화된 계정입니다.");
-    }
-
+    // 회원 존재, 활성 여부 및 비밀번호 확인은 MemberAuthenticationProvider 에서 한 번에 처리
     UsernamePasswordAuthenticationToken authRequest =
         new UsernamePasswordAuthenticationToken(
             userEmailPasswordMap.get(USER_EMAIL_KEY), userEmailPasswordMap.get(PASSWORD_KEY));
@@ -8,6 +8,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import lombok.extern.slf4j.Slf4j;
+import net.devgrr.interp.ia.api.login.LoginThrottledException;
 import net.devgrr.interp.ia.api.config.exception.BaseException;
 import net.devgrr.interp.ia.api.config.exception.ErrorCode;
 import net.devgrr.interp.ia.api.config.exception.ErrorResponse;
@@ -44,6 +45,13 @@ public class LoginFailureHandler implements AuthenticationFailureHandler {
       responseBody.put("error", ErrorCode.FORBIDDEN);
       responseBody.put("message", "비활성화 된 계정입니다.");
 
+      mapper.writeValue(response.getWriter(), responseBody);
+    } else if (exception instanceof LoginThrottledException) {
+      response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+
+      responseBody.put("error", ErrorCode.SERVICE_UNAVAILABLE);
+      responseBody.put("message", errMsg);
+
       mapper.writeValue(response.getWriter(), responseBody);
     } else {
       response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
@@ -5,43 +5,30 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import lombok.RequiredArgsConstructor;
-import net.devgrr.interp.ia.api.config.mapStruct.MemberMapper;
 import net.devgrr.interp.ia.api.jwt.JwtService;
-import net.devgrr.interp.ia.api.member.MemberRepository;
-import net.devgrr.interp.ia.api.member.entity.Member;
-import org.springframework.beans.factory.annotation.Autowired;
+import net.devgrr.interp.ia.api.jwt.RefreshTokenService;
+import net.devgrr.interp.ia.api.login.LoginPrincipal;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
 
 @RequiredArgsConstructor
 public class LoginSuccessJWTProvideHandler extends SimpleUrlAuthenticationSuccessHandler {
 
   private final JwtService jwtService;
-  private final MemberRepository memberRepository;
-  @Autowired private MemberMapper memberMapper;
+  private final RefreshTokenService refreshTokenService;
 
   @Override
   public void onAuthenticationSuccess(
       HttpServletRequest request, HttpServletResponse response, Authentication authentication)
       throws IOException, ServletException {
-    String email = extractUsername(authentication);
+    LoginPrincipal principal = (LoginPrincipal) authentication.getPrincipal();
+    String email = principal.getUsername();
     String accessToken = jwtService.createAccessToken(email);
     String refreshToken = jwtService.createRefreshToken();
 
     jwtService.sendAccessAndRefreshToken(response, accessToken, refreshToken);
 
-    memberRepository
-        .findByEmail(email)
-        .ifPresent(
-            member ->
-                memberRepository.save(
-                    memberMapper.updateMemberRefreshToken(
-                        Member.builder().refreshToken(refreshToken).build(), member)));
-  }
-
-  private String extractUsername(Authentication authentication) {
-    UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-    return userDetails.getUsername();
+    // 인증 시 조회한 회원을 사용, member 행은 수정하지 않고 refresh_token 에 새 행만 추가
+    refreshTokenService.setRefreshToken(principal.getMember(), refreshToken);
   }
 }
@@ -9,8 +9,6 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import java.io.*;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -21,6 +19,7 @@ import net.devgrr.interp.ia.api.config.swagger.annotation.SwaggerBody;
 import net.devgrr.interp.ia.api.member.dto.*;
 import net.devgrr.interp.ia.api.member.file.FileService;
 import net.devgrr.interp.ia.api.member.file.dto.MemberFileOptionRequest;
+import net.devgrr.interp.ia.api.member.file.dto.MemberImportReport;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -91,16 +90,18 @@ public class MemberController {
 
   @Operation(
       description =
-          "파일을 입력받아 데이터를 저장한다.<br>확장자가 .csv, .xlsx, .xls 인 것만 가능<br>입력된 데이터 중 같은 email 존재 시 해당 데이터 제외하고 저장")
+          "파일을 입력받아 데이터를 저장한다.<br>확장자가 .csv, .xlsx, .xls 인 것만 가능<br>입력된 데이터 중 같은 email 존재 시 해당 데이터 제외하고 저장<br>등록, 제외 건수와 오류 행 번호를 반환")
   @PostMapping(value = "/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-  public void uploadMemberFile(
+  public MemberImportReport uploadMemberFile(
       @RequestPart("file") @Parameter(description = "MemberRequest 에서 필수 값은 무조건 포함되어야 함<br>email, name, password, department, job, position")
           MultipartFile file)
       throws Exception {
-    memberFileService.uploadMemberFile(file);
+    return memberFileService.uploadMemberFile(file);
   }
 
-  @Operation(description = "모든 회원 정보를 파일로 내려받는다.<br>csv 파일과 엑셀 파일 중 선택")
+  @Operation(
+      description =
+          "모든 회원 정보를 파일로 내려받는다.<br>csv 파일과 엑셀 파일 중 선택<br>columns 미입력 시 전체 컬럼")
   @SwaggerBody(
       content =
           @Content(
@@ -111,12 +112,6 @@ public class MemberController {
           MemberFileOptionRequest memberFileOptionRequest,
       HttpServletResponse response)
       throws BaseException, IOException {
-    File saveFile = memberFileService.downloadMemberFile(memberFileOptionRequest);
-    String fileNameEncoded = URLEncoder.encode(saveFile.getName(), StandardCharsets.UTF_8);
-
-    response.setContentType("application/octet-stream");
-    response.setHeader("Content-Disposition", "attachment; filename=\"" + fileNameEncoded + "\"");
-
-    memberFileService.getStreamingResponse(response, saveFile);
+    memberFileService.downloadMemberFile(memberFileOptionRequest, response);
   }
 }
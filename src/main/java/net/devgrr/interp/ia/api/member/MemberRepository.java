@@ -1,9 +1,13 @@
 package net.devgrr.interp.ia.api.member;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import net.devgrr.interp.ia.api.member.entity.Member;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MemberRepository extends JpaRepository<Member, Integer> {
   List<Member> findAllByIsActiveTrue();
@@ -14,5 +18,9 @@ public interface MemberRepository extends JpaRepository<Member, Integer> {
 
   boolean existsByEmail(String email);
 
-  Optional<Member> findByRefreshToken(String refreshToken);
+  @Query("select m.email from Member m where m.email in :emails")
+  List<String> findEmailsIn(@Param("emails") Collection<String> emails);
+
+  // 내보내기용 keyset 조회 (ID 순)
+  List<Member> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
 }
@@ -1,23 +1,29 @@
 package net.devgrr.interp.ia.api.member;
 
+import io.micrometer.core.annotation.Timed;
 import java.util.*;
 import lombok.RequiredArgsConstructor;
 import net.devgrr.interp.ia.api.config.exception.BaseException;
 import net.devgrr.interp.ia.api.config.exception.ErrorCode;
 import net.devgrr.interp.ia.api.config.mapStruct.MemberMapper;
+import net.devgrr.interp.ia.api.config.metrics.MetricsConfig;
+import net.devgrr.interp.ia.api.member.cache.MemberPrincipalCache;
 import net.devgrr.interp.ia.api.member.dto.MemberRequest;
 import net.devgrr.interp.ia.api.member.dto.MemberUpdateRequest;
 import net.devgrr.interp.ia.api.member.entity.Member;
+import net.devgrr.interp.ia.api.util.TransactionUtil;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+@Timed(MetricsConfig.SERVICE_TIMER)
 @RequiredArgsConstructor
 @Service
 public class MemberService {
 
   private final MemberRepository memberRepository;
   private final MemberMapper memberMapper;
+  private final MemberPrincipalCache memberPrincipalCache;
 
   public List<Member> getUsers(String isActive) throws BaseException {
     if (isActive == null) {
@@ -70,6 +76,7 @@ public class MemberService {
                 () -> new BaseException(ErrorCode.INVALID_INPUT_VALUE, "회원 정보를 찾을 수 없습니다."));
     try {
       memberMapper.updateMember(req, member);
+      TransactionUtil.afterCommit(() -> memberPrincipalCache.invalidate(userDetails.getUsername()));
     } catch (Exception e) {
       throw new BaseException(ErrorCode.INTERNAL_SERVER_ERROR, "수정에 실패했습니다. :" + e.getMessage());
     }
@@ -83,6 +90,7 @@ public class MemberService {
             .orElseThrow(() -> new BaseException(ErrorCode.NOT_FOUND, "존재하지 않는 이메일 입니다."));
     try {
       memberMapper.deactivateMember(member, member);
+      TransactionUtil.afterCommit(() -> memberPrincipalCache.invalidate(email));
     } catch (Exception e) {
       throw new BaseException(ErrorCode.INTERNAL_SERVER_ERROR, "수정에 실패했습니다. :" + e.getMessage());
     }
@@ -97,6 +105,7 @@ public class MemberService {
 
     try {
       memberMapper.activeMember(member, member);
+      TransactionUtil.afterCommit(() -> memberPrincipalCache.invalidate(email));
     } catch (Exception e) {
       throw new BaseException(ErrorCode.INTERNAL_SERVER_ERROR, "수정에 실패했습니다. :" + e.getMessage());
     }
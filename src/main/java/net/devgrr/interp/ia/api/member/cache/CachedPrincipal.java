@@ -0,0 +1,23 @@
+package net.devgrr.interp.ia.api.member.cache;
+
+import net.devgrr.interp.ia.api.member.MemberRole;
+import net.devgrr.interp.ia.api.member.entity.Member;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+// 인증에 필요한 회원 정보만 보관 (엔티티는 캐시하지 않음)
+public record CachedPrincipal(String email, String password, MemberRole role, Boolean active) {
+
+  public static CachedPrincipal from(Member member) {
+    return new CachedPrincipal(
+        member.getEmail(), member.getPassword(), member.getRole(), member.getIsActive());
+  }
+
+  public boolean isActive() {
+    return Boolean.TRUE.equals(active);
+  }
+
+  public UserDetails toUserDetails() {
+    return User.builder().username(email).password(password).roles(role.name()).build();
+  }
+}
@@ -0,0 +1,47 @@
+package net.devgrr.interp.ia.api.member.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Optional;
+import net.devgrr.interp.ia.api.member.MemberRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/*
+ * 인증 회원 정보 캐시 (key: email)
+ * - 요청마다 수행되던 회원 조회를 캐시로 대체, 미존재 회원은 캐시하지 않음 (매 요청 DB 조회)
+ * - 회원 정보 수정, 활성화/비활성화 시 MemberService 에서 무효화
+ * - 다중 인스턴스 환경에서는 다른 인스턴스의 변경이 TTL 이후 반영됨
+ * */
+@Component
+public class MemberPrincipalCache {
+
+  private final MemberRepository memberRepository;
+  private final Cache<String, CachedPrincipal> cache;
+
+  public MemberPrincipalCache(
+      MemberRepository memberRepository,
+      @Value("${member.principal-cache.max-size:10000}") long maxSize,
+      @Value("${member.principal-cache.ttl:5m}") Duration ttl,
+      MeterRegistry meterRegistry) {
+    this.memberRepository = memberRepository;
+    this.cache =
+        Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).recordStats().build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "member.principal");
+  }
+
+  // 조회와 저장을 키 단위로 원자적으로 처리하여, 조회 중 무효화된 경우 조회 결과가 캐시에 남지 않도록 함
+  public Optional<CachedPrincipal> get(String email) {
+    return Optional.ofNullable(
+        cache.get(
+            email,
+            key -> memberRepository.findByEmail(key).map(CachedPrincipal::from).orElse(null)));
+  }
+
+  public void invalidate(String email) {
+    cache.invalidate(email);
+  }
+}
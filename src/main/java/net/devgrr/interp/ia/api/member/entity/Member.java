@@ -61,10 +61,6 @@ public class Member extends BaseEntity {
   @Schema(description = "권한")
   private MemberRole role;
 
-  @Column(length = 1000)
-  @Schema(description = "인증 토큰")
-  private String refreshToken;
-
   @Column(nullable = false, columnDefinition = "boolean default true")
   @Schema(description = "활성 여부 (true: 활성, false: 비활성)")
   private Boolean isActive;
@@ -1,9 +1,12 @@
 package net.devgrr.interp.ia.api.member.file;
 
 import java.io.*;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystems;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -12,6 +15,7 @@ import lombok.extern.slf4j.Slf4j;
 import net.devgrr.interp.ia.api.config.exception.BaseException;
 import net.devgrr.interp.ia.api.config.exception.ErrorCode;
 import net.devgrr.interp.ia.api.member.file.dto.MemberFileOptionRequest;
+import net.devgrr.interp.ia.api.member.file.dto.MemberImportReport;
 import net.devgrr.interp.ia.api.member.file.exportData.FilesWriter;
 import net.devgrr.interp.ia.api.member.file.importData.FileReader;
 import org.apache.commons.io.FilenameUtils;
@@ -41,20 +45,26 @@ public class FileService {
     }
   }
 
-  public void uploadMemberFile(MultipartFile file) throws Exception {
+  public MemberImportReport uploadMemberFile(MultipartFile file) throws Exception {
     createDirectory();
     String filePath = FILE_DIRECTORY + file.getOriginalFilename();
     File savedFile = new File(filePath);
     file.transferTo(savedFile);
 
-    fileReader.fileReader(filePath);
-
-    deleteFile(savedFile);
+    try {
+      return fileReader.fileReader(filePath);
+    } finally {
+      deleteFile(savedFile);
+    }
   }
 
-  public File downloadMemberFile(MemberFileOptionRequest request)
+  /*
+   * 회원 정보를 파일로 변환하여 응답으로 바로 전송 (임시 파일 없음)
+   * - 확장자, 컬럼 검증은 응답 헤더를 쓰기 전에 수행
+   * - 요청마다 새로 생성하는 내용이라 요청 간 동일성을 보장할 수 없으므로 Range(이어받기) 요청은 지원하지 않음
+   * */
+  public void downloadMemberFile(MemberFileOptionRequest request, HttpServletResponse response)
       throws BaseException, IOException {
-    createDirectory();
     String extension = "";
     if (request.fileType() == null || request.fileType().isEmpty()) {
       throw new BaseException(ErrorCode.INVALID_INPUT_VALUE, "확장자 입력이 없습니다.");
@@ -68,6 +78,11 @@ public class FileService {
     if ("xls".equals(request.fileType())) {
       extension = ".xls";
     }
+    if (extension.isEmpty()) {
+      throw new BaseException(ErrorCode.INVALID_INPUT_VALUE, "허용되지 않은 파일 확장자입니다.");
+    }
+    List<String> columns = filesWriter.resolveColumns(request.columns());
+
     String fileName = request.fileName();
     if (request.fileName() == null || request.fileName().isEmpty()) {
       LocalDate today = LocalDate.now();
@@ -75,34 +90,20 @@ public class FileService {
     } else {
       fileName = request.fileName() + extension;
     }
-    String filePath = FILE_DIRECTORY + fileName;
+    String fileNameEncoded = URLEncoder.encode(fileName, StandardCharsets.UTF_8);
 
-    filesWriter.filesWriter(request.header(), request.columns(), filePath);
+    response.setContentType("application/octet-stream");
+    response.setHeader("Content-Disposition", "attachment; filename=\"" + fileNameEncoded + "\"");
+    response.setHeader("Accept-Ranges", "none");
 
-    return new File(filePath);
+    try (OutputStream outputStream = response.getOutputStream()) {
+      filesWriter.filesWriter(request.fileType(), request.header(), columns, outputStream);
+    }
   }
 
-
   public void deleteFile(File file) {
     if (file.exists()) {
       boolean deleted = file.delete();
     }
   }
-
-  public void getStreamingResponse(HttpServletResponse response, File saveFile) {
-    try (InputStream inputStream = new FileInputStream(saveFile);
-        OutputStream outputStream = response.getOutputStream()) {
-      byte[] buffer = new byte[1024];
-      int bytesRead;
-      while ((bytesRead = inputStream.read(buffer)) != -1) {
-        outputStream.write(buffer, 0, bytesRead);
-        outputStream.flush();
-      }
-    } catch (IOException e) {
-      throw new RuntimeException(e);
-    } finally {
-      System.gc();
-      deleteFile(saveFile);
-    }
-  }
 }
@@ -0,0 +1,21 @@
+package net.devgrr.interp.ia.api.member.file.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema(description = "회원 파일 등록 결과")
+public record MemberImportReport(
+    @Schema(description = "전체 행 수 (헤더 제외)") int total,
+    @Schema(description = "등록 건수") int inserted,
+    @Schema(description = "제외 건수 (이미 등록된 email, 파일 내 중복 email)") int skipped,
+    @Schema(description = "오류 건수") int invalid,
+    @Schema(description = "오류 행 목록 (최대 " + MemberImportReport.MAX_INVALID_ROWS + "건)")
+        List<InvalidRow> invalidRows) {
+
+  public static final int MAX_INVALID_ROWS = 1000;
+
+  @Schema(description = "오류 행")
+  public record InvalidRow(
+      @Schema(description = "행 번호 (헤더 포함, 1부터)") long line,
+      @Schema(description = "오류 내용") String reason) {}
+}
@@ -1,18 +1,26 @@
 package net.devgrr.interp.ia.api.member.file.exportData;
 
 import java.io.*;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import lombok.Setter;
 import org.apache.poi.hssf.usermodel.HSSFWorkbook;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 
+/*
+ * 행을 순서대로 받아 엑셀로 기록
+ * - xlsx: 최근 ROW_ACCESS_WINDOW 개 행만 메모리에 유지 (SXSSF)
+ * - xls: 형식상 스트리밍 기록이 불가하여 워크북을 메모리에 구성 후 기록
+ * - outputStream 은 닫지 않음
+ * */
 public class ExelStreamWriter {
-  @Setter private File file;
+  private static final int ROW_ACCESS_WINDOW = 100;
+
+  @Setter private OutputStream outputStream;
   @Setter private boolean header;
   @Setter private boolean isXlsx;
 
@@ -26,54 +34,58 @@ public class ExelStreamWriter {
 
   public void open() {
     if (isXlsx) {
-      this.workbook = new XSSFWorkbook();
+      SXSSFWorkbook streamingWorkbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW);
+      streamingWorkbook.setCompressTempFiles(true);
+      this.workbook = streamingWorkbook;
     } else {
       this.workbook = new HSSFWorkbook();
     }
     this.sheet = workbook.createSheet("Sheet1");
   }
 
-  public void write(List<Map<String, Object>> data) {
+  //  data: fieldNames 순서의 값 목록
+  public void write(Iterator<List<Object>> data) throws IOException {
     open();
-
-    if (header) {
-      createHeader();
-    }
-    for (Map<String, Object> datum : data) {
-      Row r = sheet.createRow(this.row++);
-      for (int i = 0; i < fieldNames.length; i++) {
-        String column = fieldNames[i];
-        Object value = datum.get(column);
-        Cell c = r.createCell(this.cell + i);
-        if (value != null) {
-          if (value instanceof String) {
-            c.setCellValue((String) value);
-          } else if (value instanceof Integer) {
-            c.setCellValue((Integer) value);
-          } else if (value instanceof Double) {
-            c.setCellValue((Double) value);
-          } else if (value instanceof Boolean) {
-            c.setCellValue((Boolean) value);
-          } else if(value instanceof Long) {
-            c.setCellValue((Long) value);
-          }else {
-            c.setCellValue(String.valueOf(value));
+    try {
+      if (header) {
+        createHeader();
+      }
+      while (data.hasNext()) {
+        List<Object> datum = data.next();
+        Row r = sheet.createRow(this.row++);
+        for (int i = 0; i < fieldNames.length; i++) {
+          Object value = datum.get(i);
+          Cell c = r.createCell(this.cell + i);
+          if (value != null) {
+            if (value instanceof String) {
+              c.setCellValue((String) value);
+            } else if (value instanceof Integer) {
+              c.setCellValue((Integer) value);
+            } else if (value instanceof Double) {
+              c.setCellValue((Double) value);
+            } else if (value instanceof Boolean) {
+              c.setCellValue((Boolean) value);
+            } else if(value instanceof Long) {
+              c.setCellValue((Long) value);
+            }else {
+              c.setCellValue(String.valueOf(value));
+            }
+          } else {
+            c.setCellValue("");
           }
-        } else {
-          c.setCellValue("");
         }
       }
+      workbook.write(outputStream);
+    } finally {
+      close();
     }
-    close();
   }
 
-  private void close() {
-    try {
-      FileOutputStream outputStream = new FileOutputStream(file.getAbsoluteFile());
-      workbook.write(outputStream);
-    } catch (IOException e) {
-      throw new RuntimeException(e);
+  private void close() throws IOException {
+    if (workbook instanceof SXSSFWorkbook streamingWorkbook) {
+      streamingWorkbook.dispose();
     }
+    workbook.close();
   }
 
   private void createHeader() {
@@ -7,135 +7,138 @@ import net.devgrr.interp.ia.api.config.exception.BaseException;
 import net.devgrr.interp.ia.api.config.exception.ErrorCode;
 import net.devgrr.interp.ia.api.member.MemberRepository;
 import net.devgrr.interp.ia.api.member.entity.Member;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
 
 import java.io.BufferedWriter;
-import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.lang.reflect.Field;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
+/*
+ * 회원 내보내기
+ * - 임시 파일 없이 전달받은 OutputStream 에 바로 기록
+ * - 회원은 ID 순으로 CHUNK_SIZE 건씩 keyset 조회 (IssueExportReader 와 동일)
+ *   다운로드 동안 트랜잭션, 커서를 유지하지 않도록 chunk 마다 별도 조회 후 영속성 컨텍스트 clear
+ * - 내보낼 수 있는 컬럼은 COLUMNS 에 정의된 필드만 허용 (미지정 시 전체, 비밀번호 제외)
+ * */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class FilesWriter {
+  private static final int CHUNK_SIZE = 500;
+
+  //  컬럼 명 - 값 (Member, BaseEntity 필드 순서, password 는 내보내지 않음)
+  private static final Map<String, Function<Member, Object>> COLUMNS = new LinkedHashMap<>();
+
+  static {
+    COLUMNS.put("id", Member::getId);
+    COLUMNS.put("email", Member::getEmail);
+    COLUMNS.put("name", Member::getName);
+    COLUMNS.put("image", Member::getImage);
+    COLUMNS.put("position", Member::getPosition);
+    COLUMNS.put("department", Member::getDepartment);
+    COLUMNS.put("job", Member::getJob);
+    COLUMNS.put("phone", Member::getPhone);
+    COLUMNS.put("role", Member::getRole);
+    COLUMNS.put("isActive", Member::getIsActive);
+    COLUMNS.put("createdDate", Member::getCreatedDate);
+    COLUMNS.put("updatedDate", Member::getUpdatedDate);
+  }
+
   private final MemberRepository memberRepository;
   private final EntityManager entityManager;
 
-  public void filesWriter(boolean header, List<String> cols, String filePath)
-      throws IOException, BaseException {
-    if (filePath.endsWith(".csv")) {
-      csvWriter(filePath, header, cols);
-    } else if (filePath.endsWith(".xlsx")) {
-      exelWriter(filePath, header, cols, true);
-    } else if (filePath.endsWith(".xls")) {
-      exelWriter(filePath, header, cols, false);
-    } else {
-      throw new BaseException(ErrorCode.INVALID_INPUT_VALUE, "허용되지 않은 파일 확장자입니다.");
+  //  응답 기록 전에 호출하여 컬럼 검증 (미지정 시 전체 컬럼)
+  public List<String> resolveColumns(List<String> cols) throws BaseException {
+    if (cols == null || cols.isEmpty()) {
+      return List.copyOf(COLUMNS.keySet());
+    }
+    List<String> unknown = cols.stream().filter(col -> !COLUMNS.containsKey(col)).toList();
+    if (!unknown.isEmpty()) {
+      throw new BaseException(
+          ErrorCode.INVALID_INPUT_VALUE, "내보낼 수 없는 컬럼입니다: " + String.join(", ", unknown));
     }
+    return List.copyOf(cols);
   }
 
-  private void exelWriter(String filePath, boolean header, List<String> cols, boolean isXlsx) {
-    List<String> fieldNames = new ArrayList<>();
-    File file = new File(filePath);
-    if (!file.exists()) {
-      log.info("file does not exist: {}", filePath);
+  public void filesWriter(
+      String fileType, boolean header, List<String> cols, OutputStream outputStream)
+      throws IOException, BaseException {
+    if (!"csv".equals(fileType) && !"xlsx".equals(fileType) && !"xls".equals(fileType)) {
+      throw new BaseException(ErrorCode.INVALID_INPUT_VALUE, "허용되지 않은 파일 확장자입니다.");
     }
+    List<String> columns = resolveColumns(cols);
+    List<Function<Member, Object>> getters = columns.stream().map(COLUMNS::get).toList();
 
-    ExelStreamWriter writer = new ExelStreamWriter();
-    writer.setFile(file);
-    writer.setHeader(header);
-    writer.setXlsx(isXlsx);
-    if (cols == null) {
-      //      Member Entity Field names
-      fieldNames.addAll(
-          Arrays.stream(Member.class.getDeclaredFields()).map(Field::getName).toList());
-      //      Base Entity Field names
-      fieldNames.addAll(
-          Arrays.stream(Member.class.getSuperclass().getDeclaredFields())
-              .map(Field::getName)
-              .toList());
-      writer.setFieldNames(fieldNames.toArray(new String[0]));
-    } else {
-      fieldNames.addAll(cols);
-      writer.setFieldNames(fieldNames.toArray(new String[0]));
-    }
+    AtomicInteger count = new AtomicInteger();
+    Iterator<List<Object>> rows =
+        Stream.iterate(
+                readChunk(0L),
+                chunk -> !chunk.isEmpty(),
+                chunk -> readChunk(chunk.get(chunk.size() - 1).getId()))
+            .flatMap(List::stream)
+            .map(
+                member -> {
+                  List<Object> row = new ArrayList<>(getters.size());
+                  getters.forEach(getter -> row.add(getter.apply(member)));
+                  count.incrementAndGet();
+                  return row;
+                })
+            .iterator();
 
-    List<List<Object>> dataList = getData(cols);
-    List<Map<String, Object>> data = new ArrayList<>();
-    for (List<Object> objects : dataList) {
-      //      key - field name, value - db value (ex: email - admin@admin.com)
-      Map<String, Object> map = new HashMap<>();
-      for (int i = 0; i < objects.size(); i++) {
-        map.put(fieldNames.get(i), objects.get(i));
-      }
-      data.add(map);
+    if ("csv".equals(fileType)) {
+      csvWriter(outputStream, header, columns, rows);
+    } else {
+      exelWriter(outputStream, header, columns, rows, "xlsx".equals(fileType));
     }
-
-    writer.write(data);
+    log.info("Exported {} members to {}.", count.get(), fileType);
   }
 
-  private List<List<Object>> getData(List<String> cols) {
-    List<List<Object>> data = new ArrayList<>();
+  //  이전 chunk 의 엔티티는 이미 기록했으므로 영속성 컨텍스트에서 제거 (OSIV 사용 시 누적 방지)
+  private List<Member> readChunk(Long afterId) {
+    entityManager.clear();
+    return memberRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(CHUNK_SIZE));
+  }
 
-    if (cols == null || cols.isEmpty()) {
-      List<Member> members = new ArrayList<>(memberRepository.findAll());
-      for (Member member : members) {
-        List<Object> row = new ArrayList<>();
-        for (Field field : member.getClass().getDeclaredFields()) {
-          field.setAccessible(true);
-          try {
-            row.add(field.get(member));
-          } catch (IllegalAccessException e) {
-            throw new RuntimeException(e);
-          }
-        }
-        row.add(member.getCreatedDate());
-        row.add(member.getUpdatedDate());
-        data.add(row);
-      }
-    } else {
-      List<String> sql = new ArrayList<>();
-      for (String col : cols) {
-        sql.add("m." + col);
-      }
-      String query = "select " + String.join(", ", sql) + " from Member m";
-      List<Object[]> rawData = entityManager.createQuery(query).getResultList();
+  private void exelWriter(
+      OutputStream outputStream,
+      boolean header,
+      List<String> columns,
+      Iterator<List<Object>> rows,
+      boolean isXlsx)
+      throws IOException {
+    ExelStreamWriter writer = new ExelStreamWriter();
+    writer.setOutputStream(outputStream);
+    writer.setHeader(header);
+    writer.setXlsx(isXlsx);
+    writer.setFieldNames(columns.toArray(new String[0]));
 
-      data = rawData.stream().map(Arrays::asList).collect(Collectors.toList());
-    }
-    return data;
+    writer.write(rows);
   }
 
-  private void csvWriter(String filePath, boolean header, List<String> cols) throws IOException {
-    List<List<Object>> data = getData(cols);
-    BufferedWriter bw = new BufferedWriter(new FileWriter(new File(filePath), false));
+  //  응답 스트림은 호출한 쪽에서 닫으므로 flush 만 수행
+  //  쉼표, 따옴표, 줄바꿈이 포함된 값은 CSVPrinter 가 따옴표로 감싸 기록
+  private void csvWriter(
+      OutputStream outputStream, boolean header, List<String> columns, Iterator<List<Object>> rows)
+      throws IOException {
+    BufferedWriter bw =
+        new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+    CSVPrinter printer = new CSVPrinter(bw, CSVFormat.DEFAULT);
 
     if (header) {
-      if (cols == null) {
-        String memberField =
-            Arrays.stream(Member.class.getDeclaredFields())
-                .map(Field::getName)
-                .collect(Collectors.joining(","));
-        String baseField =
-            Arrays.stream(Member.class.getSuperclass().getDeclaredFields())
-                .map(Field::getName)
-                .collect(Collectors.joining(","));
-        bw.write(memberField + "," + baseField);
-        bw.newLine();
-      } else {
-        bw.write(String.join(",", cols));
-        bw.newLine();
-      }
+      printer.printRecord(columns);
     }
-    for (List<Object> datum : data) {
-      bw.write(
-          datum.stream().map(obj -> Objects.toString(obj, "")).collect(Collectors.joining(",")));
-      bw.newLine();
+    while (rows.hasNext()) {
+      printer.printRecord(rows.next());
     }
-    bw.flush();
-    bw.close();
+    printer.flush();
   }
 }
@@ -1,141 +1,116 @@
 package net.devgrr.interp.ia.api.member.file.importData;
 
-import jakarta.validation.constraints.NotBlank;
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
-import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
+import java.io.UncheckedIOException;
 import java.util.*;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import net.devgrr.interp.ia.api.config.exception.BaseException;
-import net.devgrr.interp.ia.api.config.exception.ErrorCode;
-import net.devgrr.interp.ia.api.config.mapStruct.MemberMapper;
-import net.devgrr.interp.ia.api.member.MemberRepository;
 import net.devgrr.interp.ia.api.member.dto.MemberRequest;
-import net.devgrr.interp.ia.api.member.entity.Member;
+import net.devgrr.interp.ia.api.member.file.dto.MemberImportReport;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVParser;
 import org.apache.commons.csv.CSVRecord;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 @RequiredArgsConstructor
 @Component
 public class FileReader {
-  private final MemberRepository memberRepository;
-  private final MemberMapper memberMapper;
+  private final MemberImporter memberImporter;
 
-  @Transactional
-  public void fileReader(String filePath) throws Exception {
+  public MemberImportReport fileReader(String filePath) throws Exception {
     File file = new File(filePath);
     if (filePath.endsWith(".csv")) {
-      csvReader(filePath);
+      return csvReader(filePath);
     } else if (filePath.endsWith(".xlsx")) {
-      exelReader(filePath, true);
+      return exelReader(filePath, true);
     } else if (filePath.endsWith(".xls")) {
-      exelReader(filePath, false);
+      return exelReader(filePath, false);
     } else {
       deleteErrorFile(file, null);
       throw new IllegalArgumentException("Unsupported file type: " + filePath);
     }
   }
 
-  public void exelReader(String filePath, boolean isXlsx) throws BaseException {
+  public MemberImportReport exelReader(String filePath, boolean isXlsx) throws BaseException {
+    try (Stream<ImportRow<MemberRequest>> rows = exelRows(new File(filePath), isXlsx)) {
+      return memberImporter.importMembers(rows, isXlsx ? "xlsx" : "xls");
+    }
+  }
+
+  public Stream<ImportRow<MemberRequest>> exelRows(File file, boolean isXlsx)
+      throws BaseException {
     ExelStreamReader<MemberRequest> exelStreamReader = new ExelStreamReader<>();
-    exelStreamReader.setFile(new File(filePath));
+    exelStreamReader.setFile(file);
     exelStreamReader.setXlsx(isXlsx);
 
     exelStreamReader.setClazz(MemberRequest.class);
 
-    exelStreamReader
-        .read()
-        .forEach(
-            memberRequest -> {
-              if (!memberRepository.existsByEmail(memberRequest.email())) {
-                memberRepository.save(memberMapper.toMember(memberRequest));
-              }
-            });
+    return exelStreamReader.read();
   }
 
-  public void csvReader(String filePath) throws IOException, BaseException {
+  public MemberImportReport csvReader(String filePath) throws IOException, BaseException {
     File file = new File(filePath);
-    BufferedReader br = null;
+    try (Stream<ImportRow<MemberRequest>> rows = csvRows(file)) {
+      return memberImporter.importMembers(rows, "csv");
+    } finally {
+      deleteErrorFile(file, null);
+    }
+  }
+
+  // 반환된 Stream 을 닫아야 파일이 닫힘
+  public Stream<ImportRow<MemberRequest>> csvRows(File file) throws IOException, BaseException {
+    BufferedReader br = new BufferedReader(new java.io.FileReader(file));
     try {
-      br = new BufferedReader(new java.io.FileReader(file));
       br.mark(1);
       if (br.read() != 0xFEFF) {
         br.reset();
       }
 
       CSVParser parser = CSVFormat.EXCEL.builder().setHeader().build().parse(br);
-      List<String> fieldNames = handlingFieldNames(parser, file, br);
-
-      List<Member> memberList = new ArrayList<>();
-
-      for (CSVRecord record : parser.getRecords()) {
-        //        CSV 한 줄씩 읽고 MemberRequest 에 정의된 필드 명과 비교 후 없으면 null 할당
-        Object[] values =
-            fieldNames.stream()
-                .map(fieldName -> record.isMapped(fieldName) ? record.get(fieldName) : null)
-                .toArray();
+      List<String> headers = parser.getHeaderNames();
+      RecordRowMapper<MemberRequest> mapper = compileMapper(headers, file, br);
 
-        //        MemberRequest 생성자
-        MemberRequest memberRequest =
-            MemberRequest.class
-                .getDeclaredConstructor(
-                    Arrays.stream(MemberRequest.class.getDeclaredFields())
-                        .map(Field::getType)
-                        .toArray(Class[]::new))
-                .newInstance(values);
-
-        try {
-          Member member = memberMapper.toMember(memberRequest);
-          memberList.add(member);
-        } catch (Exception e) {
-          throw new BaseException(ErrorCode.INTERNAL_SERVER_ERROR, e.getMessage());
-        }
-      }
-      for (Member member : memberList) {
-        if (!memberRepository.existsByEmail(member.getEmail())) {
-          memberRepository.save(member);
-        }
-      }
-    } catch (NoSuchMethodException
-        | InvocationTargetException
-        | IllegalAccessException
-        | InstantiationException e) {
-      throw new RuntimeException(e);
-    } finally {
-      deleteErrorFile(file, br);
+      return parser.stream()
+          .map(record -> toImportRow(record, headers.size(), mapper))
+          .onClose(
+              () -> {
+                try {
+                  parser.close();
+                } catch (IOException e) {
+                  throw new UncheckedIOException(e);
+                }
+              });
+    } catch (IOException | BaseException | RuntimeException e) {
+      br.close();
+      throw e;
     }
   }
 
-  private List<String> handlingFieldNames(CSVParser parser, File file, BufferedReader br)
-      throws BaseException, IOException {
-    List<String> headers = parser.getHeaderNames();
-    //    MemberRequest 에 정의된 모든 필드들
-    List<String> fieldNames =
-        new ArrayList<>(
-            Arrays.stream(MemberRequest.class.getDeclaredFields()).map(Field::getName).toList());
-    //    MemberRequest 에 정의된 필드 중 필수 입력값 (Validation 있는 필드) 개수
-    List<String> requestFieldNames =
-        Arrays.stream(MemberRequest.class.getDeclaredFields())
-            .filter(field -> field.getAnnotation(NotBlank.class) != null)
-            .map(Field::getName)
-            .toList();
-    //    "필수 입력 필드 수 < 입력된 헤더 < 전체 필드 수" 가 아닐 시 오류 반환
-    if (headers.size() > fieldNames.size() || headers.size() < requestFieldNames.size()) {
-      deleteErrorFile(file, br);
-      throw new BaseException(ErrorCode.INVALID_INPUT_VALUE, "입력 된 컬럼 수가 맞지 않습니다.");
+  private ImportRow<MemberRequest> toImportRow(
+      CSVRecord record, int headerCount, RecordRowMapper<MemberRequest> mapper) {
+    //    헤더가 1행이므로 레코드 번호 + 1
+    long line = record.getRecordNumber() + 1;
+    if (record.size() < headerCount) {
+      return ImportRow.invalid(line, "컬럼 수 또는 필드 타입 불일치");
+    }
+    try {
+      return ImportRow.valid(line, mapper.map(record.toList()));
+    } catch (IllegalArgumentException e) {
+      return ImportRow.invalid(line, "컬럼 수 또는 필드 타입 불일치");
     }
+  }
 
-    List<String> onlyHeader = headers.stream().filter(s -> !requestFieldNames.contains(s)).toList();
-    if (!onlyHeader.isEmpty() && onlyHeader.stream().anyMatch(s -> !fieldNames.contains(s))) {
+  private RecordRowMapper<MemberRequest> compileMapper(
+      List<String> headers, File file, BufferedReader br) throws BaseException, IOException {
+    try {
+      return RecordRowMapper.compile(MemberRequest.class, headers);
+    } catch (BaseException e) {
       deleteErrorFile(file, br);
-      throw new BaseException(ErrorCode.INVALID_INPUT_VALUE, "입력 된 헤더 명이 맞지 않습니다.");
+      throw e;
     }
-    return fieldNames;
   }
 
   private void deleteErrorFile(File file, BufferedReader br) throws IOException {
@@ -0,0 +1,21 @@
+package net.devgrr.interp.ia.api.member.file.importData;
+
+/*
+ * 가져오기 파일의 한 행
+ * - line: 파일 내 행 번호 (헤더 포함, 1부터)
+ * - 변환에 실패한 행은 value 없이 error 만 가짐
+ * */
+public record ImportRow<T>(long line, T value, String error) {
+
+  public static <T> ImportRow<T> valid(long line, T value) {
+    return new ImportRow<>(line, value, null);
+  }
+
+  public static <T> ImportRow<T> invalid(long line, String error) {
+    return new ImportRow<>(line, null, error);
+  }
+
+  public boolean isValid() {
+    return error == null;
+  }
+}
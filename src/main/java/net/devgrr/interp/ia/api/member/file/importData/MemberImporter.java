@@ -0,0 +1,220 @@
+package net.devgrr.interp.ia.api.member.file.importData;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import net.devgrr.interp.ia.api.config.mapStruct.MemberMapper;
+import net.devgrr.interp.ia.api.config.metrics.MetricsConfig;
+import net.devgrr.interp.ia.api.member.MemberRepository;
+import net.devgrr.interp.ia.api.member.dto.MemberRequest;
+import net.devgrr.interp.ia.api.member.dto.MemberValidationGroup;
+import net.devgrr.interp.ia.api.member.file.dto.MemberImportReport;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/*
+ * 회원 파일 등록
+ * - chunk-size 행 단위로 처리
+ *   검증 -> 파일 내 중복 제외 -> 등록된 email IN 조회 1회 -> 비밀번호 병렬 인코딩 -> 배치 insert 후 커밋
+ * - 실패한 chunk 만 롤백되며 이전 chunk 는 커밋된 상태로 유지
+ * - email 은 대소문자 구분 없이 비교 (member.email 컬럼 collation 기준)
+ * - 인코딩 스레드 수 미지정(0) 시 CPU 코어 수
+ * */
+@Slf4j
+@Component
+public class MemberImporter {
+
+  private static final String INSERT_MEMBER =
+      "INSERT INTO member (email, password, name, image, position, department, job, phone, role,"
+          + " is_active, created_date) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private final MemberRepository memberRepository;
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final PasswordEncoder passwordEncoder;
+  private final Validator validator;
+  private final MeterRegistry meterRegistry;
+  private final int chunkSize;
+  private final ForkJoinPool encoderPool;
+
+  public MemberImporter(
+      MemberRepository memberRepository,
+      JdbcTemplate jdbcTemplate,
+      TransactionTemplate transactionTemplate,
+      PasswordEncoder passwordEncoder,
+      Validator validator,
+      MeterRegistry meterRegistry,
+      @Value("${member.import.chunk-size:500}") int chunkSize,
+      @Value("${member.import.encoder-threads:0}") int encoderThreads) {
+    this.memberRepository = memberRepository;
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = transactionTemplate;
+    this.passwordEncoder = passwordEncoder;
+    this.validator = validator;
+    this.meterRegistry = meterRegistry;
+    this.chunkSize = chunkSize;
+    this.encoderPool =
+        new ForkJoinPool(
+            encoderThreads > 0 ? encoderThreads : Runtime.getRuntime().availableProcessors());
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    encoderPool.shutdown();
+  }
+
+  public MemberImportReport importMembers(Stream<ImportRow<MemberRequest>> rows, String format) {
+    Report report = new Report();
+    // 파일 내 중복 확인용 (email 만 유지)
+    Set<String> seenEmails = new HashSet<>();
+    List<ImportRow<MemberRequest>> chunk = new ArrayList<>(chunkSize);
+
+    Iterator<ImportRow<MemberRequest>> iterator = rows.iterator();
+    while (iterator.hasNext()) {
+      chunk.add(iterator.next());
+      if (chunk.size() >= chunkSize) {
+        importChunk(chunk, seenEmails, report);
+        chunk.clear();
+      }
+    }
+    importChunk(chunk, seenEmails, report);
+
+    meterRegistry
+        .counter(MetricsConfig.IMPORT_ROWS_COUNTER, "type", "member", "format", format)
+        .increment(report.inserted);
+    log.info(
+        "Imported members from {}: total {}, inserted {}, skipped {}, invalid {}.",
+        format,
+        report.total,
+        report.inserted,
+        report.skipped,
+        report.invalid);
+    return report.toResponse();
+  }
+
+  private void importChunk(
+      List<ImportRow<MemberRequest>> chunk, Set<String> seenEmails, Report report) {
+    List<MemberRequest> candidates = new ArrayList<>(chunk.size());
+    for (ImportRow<MemberRequest> row : chunk) {
+      report.total++;
+      String error = row.isValid() ? validate(row.value()) : row.error();
+      if (error != null) {
+        report.addInvalid(row.line(), error);
+      } else if (!seenEmails.add(emailKey(row.value().email()))) {
+        report.skipped++;
+      } else {
+        candidates.add(row.value());
+      }
+    }
+    if (candidates.isEmpty()) {
+      return;
+    }
+
+    Set<String> existingEmails =
+        memberRepository
+            .findEmailsIn(candidates.stream().map(MemberRequest::email).toList())
+            .stream()
+            .map(this::emailKey)
+            .collect(Collectors.toSet());
+    List<MemberRequest> members =
+        candidates.stream()
+            .filter(member -> !existingEmails.contains(emailKey(member.email())))
+            .toList();
+    report.skipped += candidates.size() - members.size();
+    if (members.isEmpty()) {
+      return;
+    }
+
+    List<String> passwords = encodePasswords(members);
+    LocalDateTime now = LocalDateTime.now();
+    List<Object[]> args = new ArrayList<>(members.size());
+    for (int i = 0; i < members.size(); i++) {
+      MemberRequest member = members.get(i);
+      args.add(
+          new Object[] {
+            member.email(),
+            passwords.get(i),
+            member.name(),
+            member.image(),
+            member.position(),
+            member.department(),
+            member.job(),
+            member.phone(),
+            MemberMapper.toMemberRole(member.role()).name(),
+            true,
+            now
+          });
+    }
+    transactionTemplate.executeWithoutResult(
+        status -> jdbcTemplate.batchUpdate(INSERT_MEMBER, args));
+    report.inserted += members.size();
+  }
+
+  private String validate(MemberRequest member) {
+    Set<ConstraintViolation<MemberRequest>> violations =
+        validator.validate(member, MemberValidationGroup.createGroup.class);
+    if (violations.isEmpty()) {
+      return null;
+    }
+    return violations.stream()
+        .map(ConstraintViolation::getMessage)
+        .sorted()
+        .collect(Collectors.joining(", "));
+  }
+
+  private List<String> encodePasswords(List<MemberRequest> members) {
+    try {
+      return encoderPool
+          .submit(
+              () ->
+                  members.parallelStream()
+                      .map(member -> passwordEncoder.encode(member.password()))
+                      .toList())
+          .get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("비밀번호 인코딩 중 중단되었습니다.", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("비밀번호 인코딩에 실패했습니다.", e.getCause());
+    }
+  }
+
+  private String emailKey(String email) {
+    return email.toLowerCase(Locale.ROOT);
+  }
+
+  private static class Report {
+    private int total;
+    private int inserted;
+    private int skipped;
+    private int invalid;
+    private final List<MemberImportReport.InvalidRow> invalidRows = new ArrayList<>();
+
+    void addInvalid(long line, String reason) {
+      invalid++;
+      if (invalidRows.size() < MemberImportReport.MAX_INVALID_ROWS) {
+        invalidRows.add(new MemberImportReport.InvalidRow(line, reason));
+      }
+    }
+
+    MemberImportReport toResponse() {
+      return new MemberImportReport(total, inserted, skipped, invalid, invalidRows);
+    }
+  }
+}
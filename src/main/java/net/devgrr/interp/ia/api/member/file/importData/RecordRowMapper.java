@@ -0,0 +1,102 @@
+package net.devgrr.interp.ia.api.member.file.importData;
+
+import jakarta.validation.constraints.NotBlank;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.List;
+import net.devgrr.interp.ia.api.config.exception.BaseException;
+import net.devgrr.interp.ia.api.config.exception.ErrorCode;
+
+/*
+ * 헤더 기준으로 행의 셀 값을 record 로 변환
+ * - 헤더 검증, 열 -> record 컴포넌트 위치 계산, 생성자 조회는 파일당 1회 (compile)
+ * - 행 변환 시 리플렉션 없이 MethodHandle 로 canonical 생성자 호출
+ * - 헤더에 없는 컴포넌트는 null, 헤더에 있으나 값이 없는 셀은 ""
+ * - 값 배열을 행마다 재사용하므로 thread-safe 하지 않음 (파일 하나에 하나씩 생성)
+ * */
+public final class RecordRowMapper<T extends Record> {
+
+  private final MethodHandle constructor;
+  // 열 번호 별 컴포넌트 위치 (헤더가 비어 있는 열은 -1)
+  private final int[] componentByColumn;
+  private final Object[] values;
+
+  private RecordRowMapper(MethodHandle constructor, int[] componentByColumn, int componentCount) {
+    this.constructor = constructor;
+    this.componentByColumn = componentByColumn;
+    this.values = new Object[componentCount];
+  }
+
+  /*
+   * - headers: 열 순서대로의 헤더 명 (비어 있는 열은 null)
+   * - 헤더 수가 "필수 입력(@NotBlank) 컴포넌트 수 ~ 전체 컴포넌트 수" 범위를 벗어나거나
+   *   record 에 없는 헤더가 있으면 예외 발생
+   * */
+  public static <T extends Record> RecordRowMapper<T> compile(Class<T> type, List<String> headers)
+      throws BaseException {
+    RecordComponent[] components = type.getRecordComponents();
+    List<String> componentNames =
+        Arrays.stream(components).map(RecordComponent::getName).toList();
+    long requiredCount =
+        Arrays.stream(type.getDeclaredFields())
+            .filter(field -> field.getAnnotation(NotBlank.class) != null)
+            .count();
+
+    long headerCount = headers.stream().filter(header -> header != null).count();
+    if (headerCount > components.length || headerCount < requiredCount) {
+      throw new BaseException(ErrorCode.INVALID_INPUT_VALUE, "입력 된 컬럼 수가 맞지 않습니다.");
+    }
+
+    int[] componentByColumn = new int[headers.size()];
+    for (int column = 0; column < headers.size(); column++) {
+      String header = headers.get(column);
+      componentByColumn[column] = header == null ? -1 : componentNames.indexOf(header);
+      if (header != null && componentByColumn[column] < 0) {
+        throw new BaseException(ErrorCode.INVALID_INPUT_VALUE, "입력 된 헤더 명이 맞지 않습니다.");
+      }
+    }
+
+    Class<?>[] parameterTypes =
+        Arrays.stream(components).map(RecordComponent::getType).toArray(Class[]::new);
+    MethodHandle constructor;
+    try {
+      constructor =
+          MethodHandles.publicLookup()
+              .findConstructor(type, MethodType.methodType(void.class, parameterTypes))
+              .asSpreader(Object[].class, components.length)
+              .asType(MethodType.methodType(Object.class, Object[].class));
+    } catch (NoSuchMethodException | IllegalAccessException e) {
+      throw new BaseException(ErrorCode.INTERNAL_SERVER_ERROR, type.getSimpleName() + " 생성자 없음");
+    }
+    return new RecordRowMapper<>(constructor, componentByColumn, components.length);
+  }
+
+  /*
+   * - cells: 열 순서대로의 셀 값 (헤더보다 짧으면 나머지는 값이 없는 셀로 처리)
+   * - 셀 값의 타입이 컴포넌트 타입과 맞지 않으면 IllegalArgumentException
+   * */
+  @SuppressWarnings("unchecked")
+  public T map(List<?> cells) {
+    Arrays.fill(values, null);
+    for (int column = 0; column < componentByColumn.length; column++) {
+      int component = componentByColumn[column];
+      if (component >= 0) {
+        Object value = column < cells.size() ? cells.get(column) : null;
+        values[component] = value != null ? value : "";
+      }
+    }
+
+    try {
+      return (T) (Object) constructor.invokeExact(values);
+    } catch (ClassCastException e) {
+      throw new IllegalArgumentException("필드 타입 불일치", e);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
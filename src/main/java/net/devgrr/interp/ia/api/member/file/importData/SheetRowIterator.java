@@ -0,0 +1,26 @@
+package net.devgrr.interp.ia.api.member.file.importData;
+
+import java.io.Closeable;
+import java.util.Iterator;
+import java.util.List;
+
+/*
+ * 엑셀 시트의 행을 순서대로 읽는 Iterator
+ * - 행은 행 번호(1부터)와 열 번호 순 셀 값 목록이며 값이 없는 셀은 null
+ * - 셀 값은 문자열: String, 숫자: Double, 불리언: Boolean, 그 외(수식, 오류, 빈 셀): ""
+ * */
+interface SheetRowIterator extends Iterator<SheetRowIterator.SheetRow>, Closeable {
+
+  record SheetRow(int number, List<Object> cells) {}
+
+  static void put(List<Object> row, int column, Object value) {
+    while (row.size() < column) {
+      row.add(null);
+    }
+    if (row.size() == column) {
+      row.add(value);
+    } else {
+      row.set(column, value);
+    }
+  }
+}
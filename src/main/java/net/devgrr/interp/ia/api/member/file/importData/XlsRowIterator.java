@@ -0,0 +1,134 @@
+package net.devgrr.interp.ia.api.member.file.importData;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.apache.poi.hssf.record.BOFRecord;
+import org.apache.poi.hssf.record.BoolErrRecord;
+import org.apache.poi.hssf.record.CellValueRecordInterface;
+import org.apache.poi.hssf.record.EOFRecord;
+import org.apache.poi.hssf.record.LabelRecord;
+import org.apache.poi.hssf.record.LabelSSTRecord;
+import org.apache.poi.hssf.record.NumberRecord;
+import org.apache.poi.hssf.record.Record;
+import org.apache.poi.hssf.record.RecordFactoryInputStream;
+import org.apache.poi.hssf.record.SSTRecord;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
+
+/*
+ * xls 첫 번째 시트를 BIFF 레코드 단위로 한 행씩 읽음
+ * - HSSFEventFactory 가 HSSFListener 에 전달하는 것과 같은 레코드 스트림을 직접 당겨 읽어 행 단위로 지연 반환
+ * - 셀 레코드는 행 순서로 기록되므로 행 번호가 바뀌는 시점에 이전 행을 반환
+ * */
+class XlsRowIterator implements SheetRowIterator {
+
+  private final POIFSFileSystem fs;
+  private final InputStream workbook;
+  private final RecordFactoryInputStream records;
+
+  private SSTRecord sst;
+  // BOF/EOF 중첩 깊이 (차트 등 하위 스트림 포함)
+  private int depth;
+  private boolean inFirstSheet;
+  private boolean sheetEnded;
+  private boolean exhausted;
+
+  private List<Object> current;
+  private int currentRowIndex = -1;
+  private SheetRow next;
+
+  XlsRowIterator(File file) throws IOException {
+    fs = new POIFSFileSystem(file, true);
+    try {
+      workbook = fs.createDocumentInputStream(HSSFWorkbook.getWorkbookDirEntryName(fs.getRoot()));
+      records = new RecordFactoryInputStream(workbook, false);
+    } catch (IOException | RuntimeException e) {
+      fs.close();
+      throw e;
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (next == null && !exhausted) {
+      next = readRow();
+      exhausted = next == null;
+    }
+    return next != null;
+  }
+
+  @Override
+  public SheetRow next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    SheetRow row = next;
+    next = null;
+    return row;
+  }
+
+  private SheetRow readRow() {
+    Record record;
+    while (!sheetEnded && (record = records.nextRecord()) != null) {
+      if (record instanceof BOFRecord bof) {
+        if (depth == 0 && bof.getType() == BOFRecord.TYPE_WORKSHEET && !inFirstSheet) {
+          inFirstSheet = true;
+        }
+        depth++;
+      } else if (record instanceof EOFRecord) {
+        depth--;
+        if (depth == 0 && inFirstSheet) {
+          sheetEnded = true;
+        }
+      } else if (record instanceof SSTRecord sstRecord) {
+        sst = sstRecord;
+      } else if (inFirstSheet && depth == 1 && record instanceof CellValueRecordInterface cell) {
+        SheetRow completed = null;
+        if (current != null && cell.getRow() != currentRowIndex) {
+          completed = new SheetRow(currentRowIndex + 1, current);
+          current = null;
+        }
+        if (current == null) {
+          current = new ArrayList<>();
+          currentRowIndex = cell.getRow();
+        }
+        SheetRowIterator.put(current, cell.getColumn(), cellValue(record));
+        if (completed != null) {
+          return completed;
+        }
+      }
+    }
+    if (current == null) {
+      return null;
+    }
+    SheetRow last = new SheetRow(currentRowIndex + 1, current);
+    current = null;
+    return last;
+  }
+
+  private Object cellValue(Record record) {
+    if (record instanceof LabelSSTRecord label) {
+      return sst.getString(label.getSSTIndex()).getString();
+    } else if (record instanceof LabelRecord label) {
+      return label.getValue();
+    } else if (record instanceof NumberRecord number) {
+      return number.getValue();
+    } else if (record instanceof BoolErrRecord boolErr && boolErr.isBoolean()) {
+      return boolErr.getBooleanValue();
+    }
+    return "";
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      workbook.close();
+    } finally {
+      fs.close();
+    }
+  }
+}
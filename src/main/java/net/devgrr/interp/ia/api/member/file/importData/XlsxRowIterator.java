@@ -0,0 +1,163 @@
+package net.devgrr.interp.ia.api.member.file.importData;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.xml.sax.SAXException;
+
+/*
+ * xlsx 첫 번째 시트를 StAX 로 한 행씩 읽음
+ * - XSSFWorkbook 과 달리 시트 DOM 을 만들지 않으므로 메모리는 공유 문자열 테이블 + 한 행 크기
+ * - 행 요소가 없는 빈 행은 건너뜀
+ * */
+class XlsxRowIterator implements SheetRowIterator {
+
+  private final OPCPackage pkg;
+  private final ReadOnlySharedStringsTable sharedStrings;
+  private final InputStream sheet;
+  private final XMLStreamReader xml;
+
+  private final StringBuilder text = new StringBuilder();
+  private SheetRow next;
+  private int lastRowNumber;
+  private boolean exhausted;
+
+  XlsxRowIterator(File file) throws IOException {
+    try {
+      pkg = OPCPackage.open(file, PackageAccess.READ);
+    } catch (OpenXML4JException e) {
+      throw new IOException(e);
+    }
+    try {
+      XSSFReader reader = new XSSFReader(pkg);
+      sharedStrings = new ReadOnlySharedStringsTable(pkg);
+      sheet = reader.getSheetsData().next();
+      xml = XMLHelper.newXMLInputFactory().createXMLStreamReader(sheet);
+    } catch (IOException | OpenXML4JException | SAXException | XMLStreamException e) {
+      pkg.revert();
+      throw e instanceof IOException io ? io : new IOException(e);
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (next == null && !exhausted) {
+      try {
+        next = readRow();
+      } catch (XMLStreamException e) {
+        throw new UncheckedIOException(new IOException(e));
+      }
+      exhausted = next == null;
+    }
+    return next != null;
+  }
+
+  @Override
+  public SheetRow next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    SheetRow row = next;
+    next = null;
+    return row;
+  }
+
+  private SheetRow readRow() throws XMLStreamException {
+    List<Object> row = null;
+    int number = 0;
+    int column = 0;
+    String type = null;
+    boolean formula = false;
+
+    while (xml.hasNext()) {
+      int event = xml.next();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        switch (xml.getLocalName()) {
+          case "row" -> {
+            row = new ArrayList<>();
+            String reference = xml.getAttributeValue(null, "r");
+            number = reference != null ? Integer.parseInt(reference) : lastRowNumber + 1;
+          }
+          case "c" -> {
+            column = columnIndex(xml.getAttributeValue(null, "r"), row.size());
+            type = xml.getAttributeValue(null, "t");
+            formula = false;
+            text.setLength(0);
+          }
+          case "f" -> formula = true;
+          case "v", "t" -> text.append(xml.getElementText());
+          default -> {}
+        }
+      } else if (event == XMLStreamConstants.END_ELEMENT) {
+        switch (xml.getLocalName()) {
+          case "c" -> SheetRowIterator.put(row, column, cellValue(type, formula));
+          case "row" -> {
+            lastRowNumber = number;
+            return new SheetRow(number, row);
+          }
+          case "sheetData" -> {
+            return null;
+          }
+          default -> {}
+        }
+      }
+    }
+    return null;
+  }
+
+  // v: 값 또는 공유 문자열 번호, t: 인라인 문자열 (서식이 있으면 여러 개로 나뉨)
+  private Object cellValue(String type, boolean formula) {
+    if (formula || text.isEmpty()) {
+      return "";
+    }
+    String value = text.toString();
+    return switch (type == null ? "n" : type) {
+      case "s" -> sharedStrings.getItemAt(Integer.parseInt(value)).getString();
+      case "inlineStr" -> value;
+      case "b" -> "1".equals(value);
+      case "n" -> Double.parseDouble(value);
+      default -> "";
+    };
+  }
+
+  // "AB12" -> 27, 참조가 없으면 이전 셀 다음 열
+  private static int columnIndex(String reference, int fallback) {
+    if (reference == null) {
+      return fallback;
+    }
+    int column = 0;
+    for (int i = 0; i < reference.length(); i++) {
+      char ch = reference.charAt(i);
+      if (ch < 'A' || ch > 'Z') {
+        break;
+      }
+      column = column * 26 + (ch - 'A' + 1);
+    }
+    return column - 1;
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      xml.close();
+    } catch (XMLStreamException e) {
+      throw new IOException(e);
+    } finally {
+      sheet.close();
+      pkg.revert();
+    }
+  }
+}
@@ -0,0 +1,18 @@
+package net.devgrr.interp.ia.api.util;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class DatabaseUtil {
+
+  /*
+   * 연결된 데이터베이스가 H2 인지 확인
+   * - 시퀀스/IDENTITY 값 조정 등 MariaDB 와 문법이 다른 경우에만 사용
+   * */
+  public static boolean isH2(JdbcTemplate jdbcTemplate) {
+    String product =
+        jdbcTemplate.execute(
+            (ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+    return "H2".equalsIgnoreCase(product);
+  }
+}
@@ -0,0 +1,20 @@
+package net.devgrr.interp.ia.api.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+public class HashUtil {
+
+  // 64자리 소문자 16진수 문자열 반환
+  public static String sha256Hex(String value) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      // 모든 JVM 구현체는 SHA-256 을 지원해야 함
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,67 @@
+package net.devgrr.interp.ia.api.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/*
+ * DB 전체 적재로 만드는 메모리 색인의 참조 보관
+ * - 첫 적재가 끝나기 전에는 get() 이 null (호출한 쪽에서 DB 조건으로 처리)
+ * - 재적재는 새 색인을 따로 만든 뒤 참조를 교체하므로 적재 중에도 이전 색인으로 조회
+ * - 적재 중 들어온 갱신은 현재 색인에 적용하면서 기록해 두었다가 교체 직전 새 색인에 순서대로 다시 적용
+ *   (갱신은 같은 내용을 다시 적용해도 결과가 같아야 함)
+ * */
+public class RebuildableIndex<T> {
+
+  private final Object mutex = new Object();
+  private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+  private volatile T current;
+  private List<Consumer<T>> pending;
+
+  public T get() {
+    return current;
+  }
+
+  public void update(Consumer<T> update) {
+    synchronized (mutex) {
+      if (current != null) {
+        update.accept(current);
+      }
+      if (pending != null) {
+        pending.add(update);
+      }
+    }
+  }
+
+  /** 새 색인을 적재하여 교체한다. 이미 적재 중이면 false 를 반환한다. */
+  public boolean rebuild(Supplier<T> loader) {
+    if (!rebuilding.compareAndSet(false, true)) {
+      return false;
+    }
+    try {
+      synchronized (mutex) {
+        pending = new ArrayList<>();
+      }
+      T rebuilt;
+      try {
+        rebuilt = loader.get();
+      } catch (RuntimeException | Error e) {
+        synchronized (mutex) {
+          pending = null;
+        }
+        throw e;
+      }
+      synchronized (mutex) {
+        pending.forEach(update -> update.accept(rebuilt));
+        pending = null;
+        current = rebuilt;
+      }
+      return true;
+    } finally {
+      rebuilding.set(false);
+    }
+  }
+}
@@ -0,0 +1,26 @@
+package net.devgrr.interp.ia.api.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class TransactionUtil {
+
+  /*
+   * 현재 트랜잭션이 커밋된 후 실행
+   * - 롤백된 변경이 메모리 색인/캐시에 반영되지 않도록 사용
+   * - 트랜잭션 밖에서 호출하면 즉시 실행
+   * */
+  public static void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            action.run();
+          }
+        });
+  }
+}
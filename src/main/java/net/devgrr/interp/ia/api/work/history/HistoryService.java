@@ -1,20 +1,32 @@
 package net.devgrr.interp.ia.api.work.history;
 
+import io.micrometer.core.annotation.Timed;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import net.devgrr.interp.ia.api.config.exception.BaseException;
 import net.devgrr.interp.ia.api.config.exception.ErrorCode;
 import net.devgrr.interp.ia.api.config.issue.IssueCategory;
+import net.devgrr.interp.ia.api.config.metrics.MetricsConfig;
 import net.devgrr.interp.ia.api.member.entity.Member;
 import net.devgrr.interp.ia.api.work.history.entity.History;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+@Timed(MetricsConfig.SERVICE_TIMER)
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 @Service
 public class HistoryService {
   private final HistoryRepository historyRepository;
+  private final JdbcTemplate jdbcTemplate;
+
+  private static final String INSERT_HISTORY =
+      "INSERT INTO history"
+          + " (category, issue_id, field_name, before_value, after_value, modified_date,"
+          + " modifier_id) VALUES (?, ?, ?, ?, ?, ?, ?)";
 
   public List<History> getHistoryByCategoryAndIssueId(IssueCategory category, Long issueId) {
     return historyRepository.findAllByCategoryAndIssueId(category, issueId);
@@ -43,4 +55,34 @@ public class HistoryService {
       throw new BaseException(ErrorCode.INTERNAL_SERVER_ERROR, e.getMessage());
     }
   }
+
+  /*
+   * 변경이력 일괄 등록
+   * - IDENTITY 전략 엔티티는 Hibernate 배치 insert 가 불가하므로 JDBC 배치로 한 번에 등록
+   * - 엔티티 리스너를 거치지 않으므로 수정 일자를 직접 설정
+   * */
+  @Transactional
+  public void setHistories(List<History> histories) throws BaseException {
+    if (histories.isEmpty()) {
+      return;
+    }
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    try {
+      jdbcTemplate.batchUpdate(
+          INSERT_HISTORY,
+          histories,
+          histories.size(),
+          (ps, history) -> {
+            ps.setString(1, history.getCategory().name());
+            ps.setLong(2, history.getIssueId());
+            ps.setString(3, history.getFieldName());
+            ps.setString(4, history.getBeforeValue());
+            ps.setString(5, history.getAfterValue());
+            ps.setTimestamp(6, now);
+            ps.setLong(7, history.getModifier().getId());
+          });
+    } catch (Exception e) {
+      throw new BaseException(ErrorCode.INTERNAL_SERVER_ERROR, e.getMessage());
+    }
+  }
 }
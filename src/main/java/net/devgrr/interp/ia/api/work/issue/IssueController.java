@@ -11,23 +11,24 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import net.devgrr.interp.ia.api.config.exception.BaseException;
 import net.devgrr.interp.ia.api.config.exception.ErrorCode;
-import net.devgrr.interp.ia.api.config.issue.IssueStatus;
-import net.devgrr.interp.ia.api.config.issue.IssueType;
-import net.devgrr.interp.ia.api.config.issue.Priority;
 import net.devgrr.interp.ia.api.config.mapStruct.IssueMapper;
+import net.devgrr.interp.ia.api.config.metrics.QueryBudget;
 import net.devgrr.interp.ia.api.config.swagger.annotation.SwaggerBody;
+import net.devgrr.interp.ia.api.work.issue.dto.IssueBulkRequest;
+import net.devgrr.interp.ia.api.work.issue.dto.IssueCursorResponse;
 import net.devgrr.interp.ia.api.work.issue.dto.IssueRequest;
 import net.devgrr.interp.ia.api.work.issue.dto.IssueResponse;
+import net.devgrr.interp.ia.api.work.issue.dto.IssueSearchCondition;
 import net.devgrr.interp.ia.api.work.issue.dto.IssueValidationGroup;
-import org.springframework.format.annotation.DateTimeFormat;
+import net.devgrr.interp.ia.api.work.issue.dto.RelatedIssueResponse;
+import net.devgrr.interp.ia.api.work.search.dto.TagCountResponse;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -67,111 +68,75 @@ public class IssueController {
   }
 
   @Operation(
+      deprecated = true,
       description =
           """
           이슈를 검색한다. \n
           검색 조건은 전부 선택 사항이며, 조건이 여러 개 있을 경우 AND 조건으로 검색한다. <br>
           검색 조건이 없을 경우 전체 목록을 조회한다. <br>
-          하위 이슈는 검색되지 않는다. (이슈 단건 조회 이용)
+          하위 이슈는 검색되지 않는다. (이슈 단건 조회 이용) <br>
+          결과 건수 제한 없이 한 번에 조회하므로 /search/cursor 사용을 권장한다.
           """)
   @GetMapping("/search")
-  public List<IssueResponse> getIssuesByKeywords(
-      @RequestParam(value = "projectId", required = false) @Parameter(description = "상위 프로젝트 ID")
-          Long projectId,
-      @RequestParam(value = "parentIssueId", required = false) @Parameter(description = "상위 이슈 ID")
-          Long parentIssueId,
-      @RequestParam(value = "issueId", required = false) @Parameter(description = "이슈 ID")
-          Long issueId,
-      @RequestParam(value = "type", required = false) @Parameter(description = "유형") IssueType type,
-      @RequestParam(value = "status", required = false) @Parameter(description = "상태")
-          IssueStatus status,
-      @RequestParam(value = "priority", required = false) @Parameter(description = "중요도")
-          Priority priority,
-      @RequestParam(value = "title", required = false) @Parameter(description = "이슈 제목")
-          String title,
-      @RequestParam(value = "subTitle", required = false) @Parameter(description = "이슈 부제목")
-          String subTitle,
-      @RequestParam(value = "creatorId", required = false) @Parameter(description = "생성자 ID")
-          Long creatorId,
-      @RequestParam(value = "assigneeId", required = false) @Parameter(description = "담당자 ID")
-          List<Long> assigneeId,
-      @RequestParam(value = "createdDateFrom", required = false)
-          @Parameter(description = "생성일 시작 (yyyy-MM-dd)")
-          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
-          LocalDate createdDateFrom,
-      @RequestParam(value = "createdDateTo", required = false)
-          @Parameter(description = "생성일 종료 (yyyy-MM-dd)")
-          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
-          LocalDate createdDateTo,
-      @RequestParam(value = "updatedDateFrom", required = false)
-          @Parameter(description = "수정일 시작 (yyyy-MM-dd)")
-          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
-          LocalDate updatedDateFrom,
-      @RequestParam(value = "updatedDateTo", required = false)
-          @Parameter(description = "수정일 종료 (yyyy-MM-dd)")
-          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
-          LocalDate updatedDateTo,
-      @RequestParam(value = "dueDateFrom", required = false)
-          @Parameter(description = "기한일 시작 (yyyy-MM-dd)")
-          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
-          LocalDate dueDateFrom,
-      @RequestParam(value = "dueDateTo", required = false)
-          @Parameter(description = "기한일 종료 (yyyy-MM-dd)")
-          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
-          LocalDate dueDateTo,
-      @RequestParam(value = "startDateFrom", required = false)
-          @Parameter(description = "시작일 시작 (yyyy-MM-dd)")
-          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
-          LocalDate startDateFrom,
-      @RequestParam(value = "startDateTo", required = false)
-          @Parameter(description = "시작일 종료 (yyyy-MM-dd)")
-          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
-          LocalDate startDateTo,
-      @RequestParam(value = "endDateFrom", required = false)
-          @Parameter(description = "종료일 시작 (yyyy-MM-dd)")
-          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
-          LocalDate endDateFrom,
-      @RequestParam(value = "endDateTo", required = false)
-          @Parameter(description = "종료일 종료 (yyyy-MM-dd)")
-          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
-          LocalDate endDateTo,
-      @RequestParam(value = "tag", required = false) @Parameter(description = "태그") Set<String> tag)
+  @Deprecated
+  public List<IssueResponse> getIssuesByKeywords(@ParameterObject IssueSearchCondition condition)
       throws BaseException {
-    return issueService
-        .getIssuesByKeywords(
-            projectId,
-            parentIssueId,
-            issueId,
-            type,
-            status,
-            priority,
-            title,
-            subTitle,
-            creatorId,
-            assigneeId,
-            createdDateFrom,
-            createdDateTo,
-            updatedDateFrom,
-            updatedDateTo,
-            dueDateFrom,
-            dueDateTo,
-            startDateFrom,
-            startDateTo,
-            endDateFrom,
-            endDateTo,
-            tag)
-        .stream()
+    return issueService.getIssuesByKeywords(condition).stream()
         .map(issueMapper::toResponse)
         .collect(Collectors.toList());
   }
 
+  @Operation(
+      description =
+          """
+          이슈를 커서 기반으로 페이지 단위 검색한다. \n
+          검색 조건은 /search 와 동일하며, 생성일 내림차순으로 정렬한다. <br>
+          다음 페이지는 응답의 nextCursor 값을 cursor 로 전달하여 조회한다. <br>
+          페이지 크기는 기본 20, 최대 100 이다.
+          """)
+  @GetMapping("/search/cursor")
+  public IssueCursorResponse getIssuesByKeywordsWithCursor(
+      @ParameterObject IssueSearchCondition condition,
+      @RequestParam(value = "cursor", required = false) @Parameter(description = "다음 페이지 커서")
+          String cursor,
+      @RequestParam(value = "size", required = false) @Parameter(description = "페이지 크기")
+          Integer size)
+      throws BaseException {
+    return issueService.getIssuesByKeywordsWithCursor(condition, cursor, size);
+  }
+
+  @Operation(description = "태그별 이슈 건수를 조회한다. (삭제된 이슈 제외, 건수 내림차순)")
+  @GetMapping("/tags")
+  public List<TagCountResponse> getIssueTagCounts(
+      @RequestParam(value = "projectId", required = false) @Parameter(description = "프로젝트 ID")
+          Long projectId) {
+    return issueService.getIssueTagCounts(projectId);
+  }
+
   @Operation(description = "이슈를 조회한다.")
   @GetMapping("/{id}")
+  @QueryBudget(5)
   public IssueResponse getIssuesById(@PathVariable("id") @Parameter(description = "이슈 ID") Long id)
       throws BaseException {
     return issueMapper.toResponse(issueService.getIssueWithRelatedById(id));
   }
 
+  @Operation(
+      description =
+          """
+          연관 이슈를 depth 단계까지 탐색한다. (정방향, 역방향 모두 포함)
+
+          depth 는 기본 1, 최대 5 이며, 최대 500건까지 연관 단계 순으로 조회한다.
+          """)
+  @GetMapping("/{id}/related")
+  public List<RelatedIssueResponse> getRelatedIssueNeighborhood(
+      @PathVariable("id") @Parameter(description = "이슈 ID") Long id,
+      @RequestParam(value = "depth", required = false) @Parameter(description = "탐색 단계")
+          Integer depth)
+      throws BaseException {
+    return issueService.getRelatedIssueNeighborhood(id, depth);
+  }
+
   @Operation(description = "이슈를 등록한다.")
   @JsonView(IssueValidationGroup.postGroup.class)
   @PostMapping
@@ -183,12 +148,31 @@ public class IssueController {
     return issueMapper.toResponse(issueService.setIssues(req, userDetails.getUsername()));
   }
 
+  @Operation(
+      description =
+          """
+          이슈를 일괄 등록한다. (최대 1000건)
+
+          상위 이슈는 이미 등록된 이슈만 지정할 수 있으며, 하나라도 실패하면 전체 등록이 취소된다.
+          """)
+  @PostMapping("/bulk")
+  @ResponseStatus(HttpStatus.CREATED)
+  public List<IssueResponse> setIssuesBulk(
+      @Validated(IssueValidationGroup.postGroup.class) @RequestBody IssueBulkRequest req,
+      @AuthenticationPrincipal UserDetails userDetails)
+      throws BaseException {
+    return issueService.setIssuesBulk(req.issues(), userDetails.getUsername()).stream()
+        .map(issueMapper::toResponse)
+        .collect(Collectors.toList());
+  }
+
   @Operation(
       description =
           """
           이슈 정보를 수정한다.
 
           수정할 필드명은 key, 수정 데이터는 value의 JSON 형태로 입력한다.
+          여러 필드를 한 번에 수정할 수 있으며, 하나라도 실패하면 전체 수정이 취소된다.
           (단, 상/하위 관계는 직접 수정 불가)
 
           key 목록 및 value 타입
@@ -212,7 +196,10 @@ public class IssueController {
               examples = {
                 @ExampleObject(name = "제목 수정 요청", value = "{\"title\": \"제목 수정\"}"),
                 @ExampleObject(name = "담당자 수정 요청", value = "{\"assigneeId\": [1, 2]}"),
-                @ExampleObject(name = "기한일 수정 요청", value = "{\"dueDate\": \"2025-01-01\"}")
+                @ExampleObject(name = "기한일 수정 요청", value = "{\"dueDate\": \"2025-01-01\"}"),
+                @ExampleObject(
+                    name = "여러 필드 수정 요청",
+                    value = "{\"status\": \"IN_PROGRESS\", \"priority\": \"HIGH\"}")
               }))
   @PatchMapping("/{id}")
   public void putIssuesById(
@@ -8,5 +8,5 @@ public interface IssueRepository extends JpaRepository<Issue, Long> {
 
   List<Issue> findAllByIdInAndIsDeletedFalse(List<Long> ids);
 
-  List<Issue> findAllByParentProjectId(Long projectId);
+  long countByParentIssueIsNotNull();
 }
@@ -0,0 +1,52 @@
+package net.devgrr.interp.ia.api.work.issue;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.devgrr.interp.ia.api.util.DatabaseUtil;
+import net.devgrr.interp.ia.api.work.issue.entity.Issue;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/*
+ * issue_seq 시퀀스를 기존 이슈 ID 이후로 맞춤
+ * - IDENTITY 전략으로 생성된 기존 데이터 및 직접 insert 된 데이터와 ID 충돌 방지
+ * - 웹 서버가 요청을 받기 전(싱글톤 초기화 직후)에 실행하여 정렬 전 insert 가 생기지 않도록 함
+ * - 시퀀스는 앞으로만 이동
+ *   - MariaDB: SETVAL 은 현재 값보다 작은 값을 무시
+ *   - H2: SETVAL 이 없으므로 현재 값을 조회하여 작은 경우에만 RESTART WITH 실행
+ * */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class IssueSequenceAligner implements SmartInitializingSingleton {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    align();
+  }
+
+  public void align() {
+    Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM issue", Long.class);
+    long next = (maxId != null ? maxId : 0L) + Issue.SEQUENCE_ALLOCATION_SIZE;
+    if (DatabaseUtil.isH2(jdbcTemplate)) {
+      Long current =
+          jdbcTemplate.queryForObject(
+              "SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES"
+                  + " WHERE UPPER(SEQUENCE_NAME) = UPPER(?)",
+              Long.class,
+              Issue.SEQUENCE_NAME);
+      if (current != null && current >= next) {
+        log.info("{} is already at {}, no alignment needed.", Issue.SEQUENCE_NAME, current);
+        return;
+      }
+      jdbcTemplate.execute("ALTER SEQUENCE " + Issue.SEQUENCE_NAME + " RESTART WITH " + next);
+    } else {
+      jdbcTemplate.queryForObject(
+          "SELECT SETVAL(" + Issue.SEQUENCE_NAME + ", " + next + ")", Long.class);
+    }
+    log.info("Aligned {} to at least {}.", Issue.SEQUENCE_NAME, next);
+  }
+}
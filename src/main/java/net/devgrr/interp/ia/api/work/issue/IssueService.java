@@ -1,19 +1,26 @@
 package net.devgrr.interp.ia.api.work.issue;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ExpressionUtils;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import net.devgrr.interp.ia.api.config.exception.BaseException;
 import net.devgrr.interp.ia.api.config.exception.ErrorCode;
@@ -22,24 +29,42 @@ import net.devgrr.interp.ia.api.config.issue.IssueStatus;
 import net.devgrr.interp.ia.api.config.issue.IssueType;
 import net.devgrr.interp.ia.api.config.issue.Priority;
 import net.devgrr.interp.ia.api.config.mapStruct.IssueMapper;
+import net.devgrr.interp.ia.api.config.metrics.MetricsConfig;
 import net.devgrr.interp.ia.api.member.MemberService;
 import net.devgrr.interp.ia.api.member.entity.Member;
 import net.devgrr.interp.ia.api.member.entity.QMember;
 import net.devgrr.interp.ia.api.util.DateUtil;
+import net.devgrr.interp.ia.api.util.TransactionUtil;
 import net.devgrr.interp.ia.api.work.history.HistoryService;
+import net.devgrr.interp.ia.api.work.history.entity.History;
+import net.devgrr.interp.ia.api.work.issue.dto.IssueCursor;
+import net.devgrr.interp.ia.api.work.issue.dto.IssueCursorResponse;
 import net.devgrr.interp.ia.api.work.issue.dto.IssueRequest;
 import net.devgrr.interp.ia.api.work.issue.dto.IssueResponse;
+import net.devgrr.interp.ia.api.work.issue.dto.IssueSearchCondition;
+import net.devgrr.interp.ia.api.work.issue.dto.RelatedIssueResponse;
 import net.devgrr.interp.ia.api.work.issue.entity.Issue;
 import net.devgrr.interp.ia.api.work.issue.entity.QIssue;
+import net.devgrr.interp.ia.api.work.issue.file.IssueExportReader;
 import net.devgrr.interp.ia.api.work.issue.file.IssueFileService;
+import net.devgrr.interp.ia.api.work.issue.hierarchy.IssueClosureService;
+import net.devgrr.interp.ia.api.work.issue.hierarchy.IssueHierarchyLoader;
+import net.devgrr.interp.ia.api.work.issue.hierarchy.RelatedIssueGraph;
 import net.devgrr.interp.ia.api.work.project.ProjectService;
 import net.devgrr.interp.ia.api.work.project.entity.Project;
 import net.devgrr.interp.ia.api.work.project.entity.QProject;
+import net.devgrr.interp.ia.api.work.project.stats.ProjectStatDelta;
+import net.devgrr.interp.ia.api.work.project.stats.ProjectStatService;
+import net.devgrr.interp.ia.api.work.project.stats.StatDimension;
+import net.devgrr.interp.ia.api.work.search.TagSearchIndex;
+import net.devgrr.interp.ia.api.work.search.TitleSearchIndex;
+import net.devgrr.interp.ia.api.work.search.dto.TagCountResponse;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+@Timed(MetricsConfig.SERVICE_TIMER)
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 @Service
@@ -49,14 +74,28 @@ public class IssueService {
   private final JPAQueryFactory queryFactory;
   private final IssueMapper issueMapper;
   private final IssueFileService issueFileService;
+  private final IssueExportReader issueExportReader;
   private final MemberService memberService;
   private final ProjectService projectService;
   private final HistoryService historyService;
+  private final IssueHierarchyLoader issueHierarchyLoader;
+  private final IssueClosureService issueClosureService;
+  private final RelatedIssueGraph relatedIssueGraph;
+  private final TitleSearchIndex titleSearchIndex;
+  private final TagSearchIndex tagSearchIndex;
+  private final ProjectStatService projectStatService;
+  private final MeterRegistry meterRegistry;
+
+  private static final int DEFAULT_PAGE_SIZE = 20;
+  private static final int MAX_PAGE_SIZE = 100;
+  private static final int MAX_RELATED_DEPTH = 5;
+  private static final int MAX_RELATED_ISSUES = 500;
 
   private final QIssue qIssue = QIssue.issue;
   private final QProject qProject = QProject.project;
   private final QMember qCreator = new QMember("qCreator");
   private final QMember qAssignee = new QMember("qAssignee");
+  private final QIssue qParentIssue = new QIssue("qParentIssue");
 
   public List<Issue> getIssues(Long projectId, Long issueId) throws BaseException {
     try {
@@ -76,11 +115,17 @@ public class IssueService {
               .orderBy(qIssue.createdDate.asc(), qAssignee.name.asc())
               .fetch();
 
+      List<Long> ids = issues.stream().map(Issue::getId).toList();
+      Map<Long, List<Issue>> subIssues = issueHierarchyLoader.loadSubIssues(ids);
+      Map<Long, List<Issue>> relatedIssues = issueHierarchyLoader.loadRelatedIssues(ids);
+
       List<Issue> structuredIssues = new ArrayList<>();
       for (Issue issue : issues) {
-        List<Issue> subIssues = getSubIssuesById(issue.getId());
-        List<Issue> relatedIssue = getRelatedIssuesById(issue.getId());
-        structuredIssues.add(issueMapper.mapInvolvedIssues(issue, subIssues, relatedIssue));
+        structuredIssues.add(
+            issueMapper.mapInvolvedIssues(
+                issue,
+                subIssues.get(issue.getId()),
+                relatedIssues.getOrDefault(issue.getId(), List.of())));
       }
       return structuredIssues;
 
@@ -89,70 +134,19 @@ public class IssueService {
     }
   }
 
-  public List<Issue> getIssuesByKeywords(
-      Long projectId,
-      Long parentIssueId,
-      Long issueId,
-      IssueType type,
-      IssueStatus status,
-      Priority priority,
-      String title,
-      String subTitle,
-      Long creatorId,
-      List<Long> assigneeId,
-      LocalDate createdDateFrom,
-      LocalDate createdDateTo,
-      LocalDate updatedDateFrom,
-      LocalDate updatedDateTo,
-      LocalDate dueDateFrom,
-      LocalDate dueDateTo,
-      LocalDate startDateFrom,
-      LocalDate startDateTo,
-      LocalDate endDateFrom,
-      LocalDate endDateTo,
-      Set<String> tag)
-      throws BaseException {
+  public List<Issue> getIssuesByKeywords(IssueSearchCondition condition) throws BaseException {
     try {
       return queryFactory
           .selectFrom(qIssue)
           .innerJoin(qIssue.creator, qCreator)
+          .fetchJoin()
           .innerJoin(qIssue.parentProject, qProject)
+          .fetchJoin()
+          .leftJoin(qIssue.parentIssue, qParentIssue)
+          .fetchJoin()
           .leftJoin(qIssue.assignee, qAssignee)
           .fetchJoin()
-          .where(
-              qIssue.isDeleted.isFalse(),
-              issueId != null && issueId > 0 ? qIssue.id.eq(issueId) : null,
-              projectId != null && projectId > 0 ? qIssue.parentProject.id.eq(projectId) : null,
-              parentIssueId != null && parentIssueId > 0
-                  ? qIssue.parentIssue.id.eq(parentIssueId)
-                  : null,
-              type != null ? qIssue.type.eq(type) : null,
-              status != null ? qIssue.status.eq(status) : null,
-              priority != null ? qIssue.priority.eq(priority) : null,
-              StringUtils.hasText(title) ? qIssue.title.contains(title) : null,
-              StringUtils.hasText(subTitle) ? qIssue.subTitle.contains(subTitle) : null,
-              creatorId != null && creatorId > 0 ? qIssue.creator.id.eq(creatorId) : null,
-              assigneeId != null && !assigneeId.isEmpty()
-                  ? qIssue.assignee.any().id.in(assigneeId)
-                  : null,
-              DateUtil.isValidDateRange(createdDateFrom, createdDateTo)
-                  ? qIssue.createdDate.between(
-                      createdDateFrom.atStartOfDay(), createdDateTo.atStartOfDay())
-                  : null,
-              DateUtil.isValidDateRange(updatedDateFrom, updatedDateTo)
-                  ? qIssue.updatedDate.between(
-                      updatedDateFrom.atStartOfDay(), updatedDateTo.atStartOfDay())
-                  : null,
-              DateUtil.isValidDateRange(dueDateFrom, dueDateTo)
-                  ? qIssue.dueDate.between(dueDateFrom, dueDateTo)
-                  : null,
-              DateUtil.isValidDateRange(startDateFrom, startDateTo)
-                  ? qIssue.startDate.between(startDateFrom, startDateTo)
-                  : null,
-              DateUtil.isValidDateRange(endDateFrom, endDateTo)
-                  ? qIssue.endDate.between(endDateFrom, endDateTo)
-                  : null,
-              tag != null && !tag.isEmpty() ? qIssue.tag.any().in(tag) : null)
+          .where(keywordConditions(condition))
           .orderBy(qIssue.createdDate.desc(), qAssignee.name.asc())
           .fetch();
 
@@ -161,6 +155,141 @@ public class IssueService {
     }
   }
 
+  /*
+   * 커서 기반 이슈 검색 (createdDate desc, id desc)
+   * - assignee fetch join 시 SQL 페이징이 불가하므로 ID 페이지 조회 후 연관 엔티티를 일괄 조회
+   * - 다음 페이지 존재 여부는 size + 1 건 조회로 판단
+   * */
+  public IssueCursorResponse getIssuesByKeywordsWithCursor(
+      IssueSearchCondition condition, String cursor, Integer size) throws BaseException {
+    int pageSize = size == null || size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+    IssueCursor after = StringUtils.hasText(cursor) ? IssueCursor.decode(cursor) : null;
+    try {
+      List<Tuple> keys =
+          queryFactory
+              .select(qIssue.id, qIssue.createdDate)
+              .from(qIssue)
+              .where(keywordConditions(condition))
+              .where(
+                  after != null
+                      ? qIssue
+                          .createdDate
+                          .lt(after.createdDate())
+                          .or(
+                              qIssue
+                                  .createdDate
+                                  .eq(after.createdDate())
+                                  .and(qIssue.id.lt(after.id())))
+                      : null)
+              .orderBy(qIssue.createdDate.desc(), qIssue.id.desc())
+              .limit(pageSize + 1)
+              .fetch();
+
+      boolean hasNext = keys.size() > pageSize;
+      List<Tuple> page = hasNext ? keys.subList(0, pageSize) : keys;
+      if (page.isEmpty()) {
+        return new IssueCursorResponse(List.of(), null, false);
+      }
+
+      List<Long> ids = page.stream().map(key -> key.get(qIssue.id)).toList();
+      Map<Long, Issue> issueById = fetchByIdsWithAssociations(ids);
+
+      Tuple last = page.get(page.size() - 1);
+      String nextCursor =
+          hasNext
+              ? new IssueCursor(last.get(qIssue.createdDate), last.get(qIssue.id)).encode()
+              : null;
+      return new IssueCursorResponse(
+          ids.stream().map(issueById::get).map(issueMapper::toResponse).toList(),
+          nextCursor,
+          hasNext);
+
+    } catch (Exception e) {
+      throw new BaseException(ErrorCode.INTERNAL_SERVER_ERROR, e.getMessage());
+    }
+  }
+
+  // 생성자, 상위 프로젝트, 상위 이슈, 담당자를 함께 조회 (EAGER 연관 관계의 건별 조회 방지)
+  private Map<Long, Issue> fetchByIdsWithAssociations(List<Long> ids) {
+    if (ids.isEmpty()) {
+      return Map.of();
+    }
+    return queryFactory
+        .selectFrom(qIssue)
+        .innerJoin(qIssue.creator, qCreator)
+        .fetchJoin()
+        .innerJoin(qIssue.parentProject, qProject)
+        .fetchJoin()
+        .leftJoin(qIssue.parentIssue, qParentIssue)
+        .fetchJoin()
+        .leftJoin(qIssue.assignee, qAssignee)
+        .fetchJoin()
+        .where(qIssue.id.in(ids))
+        .orderBy(qAssignee.name.asc())
+        .fetch()
+        .stream()
+        .collect(Collectors.toMap(Issue::getId, issue -> issue, (a, b) -> a));
+  }
+
+  private Predicate[] keywordConditions(IssueSearchCondition c) {
+    Set<Long> candidateIds = titleSearchIndex.findIssueCandidates(c.title(), c.subTitle());
+    Predicate tagCondition = null;
+    if (c.tag() != null && !c.tag().isEmpty()) {
+      boolean matchAll = Boolean.TRUE.equals(c.tagMatchAll());
+      // 제목 후보가 있으면 그 범위 내에서 태그 확인 후 하나의 IN 조건으로 전달
+      Set<Long> tagged = tagSearchIndex.findIssueCandidates(c.tag(), matchAll, candidateIds);
+      if (tagged != null) {
+        candidateIds = tagged;
+      } else {
+        tagCondition =
+            matchAll
+                ? ExpressionUtils.allOf(
+                    c.tag().stream().map(t -> (Predicate) qIssue.tag.contains(t)).toList())
+                : qIssue.tag.any().in(c.tag());
+      }
+    }
+    return new Predicate[] {
+      qIssue.isDeleted.isFalse(),
+      candidateIds != null
+          ? (candidateIds.isEmpty() ? Expressions.FALSE.isTrue() : qIssue.id.in(candidateIds))
+          : null,
+      c.issueId() != null && c.issueId() > 0 ? qIssue.id.eq(c.issueId()) : null,
+      c.projectId() != null && c.projectId() > 0
+          ? qIssue.parentProject.id.eq(c.projectId())
+          : null,
+      c.parentIssueId() != null && c.parentIssueId() > 0
+          ? qIssue.parentIssue.id.eq(c.parentIssueId())
+          : null,
+      c.type() != null ? qIssue.type.eq(c.type()) : null,
+      c.status() != null ? qIssue.status.eq(c.status()) : null,
+      c.priority() != null ? qIssue.priority.eq(c.priority()) : null,
+      StringUtils.hasText(c.title()) ? qIssue.title.contains(c.title()) : null,
+      StringUtils.hasText(c.subTitle()) ? qIssue.subTitle.contains(c.subTitle()) : null,
+      c.creatorId() != null && c.creatorId() > 0 ? qIssue.creator.id.eq(c.creatorId()) : null,
+      c.assigneeId() != null && !c.assigneeId().isEmpty()
+          ? qIssue.assignee.any().id.in(c.assigneeId())
+          : null,
+      DateUtil.isValidDateRange(c.createdDateFrom(), c.createdDateTo())
+          ? qIssue.createdDate.between(
+              c.createdDateFrom().atStartOfDay(), c.createdDateTo().atStartOfDay())
+          : null,
+      DateUtil.isValidDateRange(c.updatedDateFrom(), c.updatedDateTo())
+          ? qIssue.updatedDate.between(
+              c.updatedDateFrom().atStartOfDay(), c.updatedDateTo().atStartOfDay())
+          : null,
+      DateUtil.isValidDateRange(c.dueDateFrom(), c.dueDateTo())
+          ? qIssue.dueDate.between(c.dueDateFrom(), c.dueDateTo())
+          : null,
+      DateUtil.isValidDateRange(c.startDateFrom(), c.startDateTo())
+          ? qIssue.startDate.between(c.startDateFrom(), c.startDateTo())
+          : null,
+      DateUtil.isValidDateRange(c.endDateFrom(), c.endDateTo())
+          ? qIssue.endDate.between(c.endDateFrom(), c.endDateTo())
+          : null,
+      tagCondition
+    };
+  }
+
   public Issue getIssuesById(Long id) throws BaseException {
     Issue issue =
         queryFactory
@@ -186,35 +315,49 @@ public class IssueService {
     Issue issue = getIssuesById(id);
 
     List<Issue> subIssues = getSubIssuesById(id);
-    Set<Issue> relatedIssue = issue.getRelatedIssues();
-    relatedIssue.addAll(getRelatedIssuesById(id));
-
-    return issueMapper.mapInvolvedIssues(issue, subIssues, relatedIssue.stream().toList());
+    return issueMapper.mapInvolvedIssues(issue, subIssues, getRelatedIssuesById(id));
   }
 
   public List<Issue> getSubIssuesById(Long pId) {
-    List<Issue> subIssues =
-        queryFactory
-            .selectFrom(qIssue)
-            .innerJoin(qIssue.creator, qCreator)
-            .leftJoin(qIssue.assignee, qAssignee)
-            .fetchJoin()
-            .where(qIssue.isDeleted.isFalse(), qIssue.parentIssue.id.eq(pId))
-            .orderBy(qIssue.createdDate.asc(), qAssignee.name.asc())
-            .fetch();
-    subIssues.forEach(issue -> issueMapper.mapSubIssues(issue, 0, getSubIssuesById(issue.getId())));
-    return subIssues.isEmpty() ? null : subIssues;
+    return issueHierarchyLoader.loadSubIssues(List.of(pId)).get(pId);
   }
 
+  // 정방향, 역방향 연관 이슈
   public List<Issue> getRelatedIssuesById(Long id) {
-    return queryFactory
-        .selectFrom(qIssue)
-        .innerJoin(qIssue.creator, qCreator)
-        .leftJoin(qIssue.assignee, qAssignee)
-        .fetchJoin()
-        .where(qIssue.isDeleted.isFalse(), qIssue.relatedIssues.any().id.eq(id))
-        .orderBy(qIssue.createdDate.asc(), qAssignee.name.asc())
-        .fetch();
+    return issueHierarchyLoader.loadRelatedIssues(List.of(id)).getOrDefault(id, List.of());
+  }
+
+  /*
+   * 연관 관계를 depth 단계까지 따라간 이슈 목록 (의존 관계 화면용)
+   * - 탐색은 RelatedIssueGraph 에서 수행 (삭제된 이슈는 제외하고 더 따라가지 않음)
+   * - 결과 이슈는 생성자, 상위 프로젝트, 상위 이슈, 담당자와 함께 한 번에 조회
+   * - 탐색 이후 삭제된 이슈는 결과에서 제외
+   * */
+  public List<RelatedIssueResponse> getRelatedIssueNeighborhood(Long id, Integer depth)
+      throws BaseException {
+    getIssuesById(id);
+    int maxDepth = depth == null || depth <= 0 ? 1 : Math.min(depth, MAX_RELATED_DEPTH);
+    Map<Long, Integer> distances =
+        relatedIssueGraph.getNeighborhood(id, maxDepth, MAX_RELATED_ISSUES);
+    if (distances.isEmpty()) {
+      return List.of();
+    }
+
+    Map<Long, Issue> issueById = fetchByIdsWithAssociations(List.copyOf(distances.keySet()));
+    return distances.entrySet().stream()
+        .filter(
+            entry ->
+                issueById.containsKey(entry.getKey())
+                    && !issueById.get(entry.getKey()).getIsDeleted())
+        .map(
+            entry ->
+                new RelatedIssueResponse(
+                    entry.getValue(), issueMapper.toRefResponse(issueById.get(entry.getKey()))))
+        .toList();
+  }
+
+  public List<TagCountResponse> getIssueTagCounts(Long projectId) {
+    return tagSearchIndex.countIssueTags(projectId);
   }
 
   @Transactional
@@ -244,116 +387,283 @@ public class IssueService {
               parentIssue,
               relatedIssues);
 
-      return issueRepository.save(newIssue);
+      Issue savedIssue = issueRepository.save(newIssue);
+      issueClosureService.addIssue(
+          savedIssue.getId(), parentIssue != null ? parentIssue.getId() : null);
+      projectStatService.apply(
+          new ProjectStatDelta()
+              .add(
+                  parentProject.getId(),
+                  savedIssue.getType(),
+                  savedIssue.getStatus(),
+                  savedIssue.getPriority(),
+                  1));
+      indexAfterCommit(savedIssue);
+      return savedIssue;
 
     } catch (Exception e) {
       throw new BaseException(ErrorCode.INTERNAL_SERVER_ERROR, e.getMessage());
     }
   }
 
-  @Transactional
+  /*
+   * 이슈 일괄 등록
+   * - 상위 프로젝트, 담당자, 상위/연관 이슈를 요청 전체 기준으로 한 번씩 조회
+   * - 시퀀스 ID 와 hibernate.jdbc.batch_size 설정으로 insert 를 JDBC 배치로 처리
+   * - 상위 이슈는 이미 등록된 이슈만 지정 가능
+   * */
+  @Transactional(rollbackFor = BaseException.class)
+  public List<Issue> setIssuesBulk(List<IssueRequest> reqs, String username)
+      throws BaseException {
+    Member creator = memberService.getUsersByEmail(username);
+
+    Set<Long> projectIds = new HashSet<>();
+    Set<Integer> assigneeIds = new HashSet<>();
+    Set<Long> issueIds = new HashSet<>();
+    for (IssueRequest req : reqs) {
+      projectIds.add(req.parentProjectId());
+      if (req.assigneeId() != null) {
+        assigneeIds.addAll(req.assigneeId());
+      }
+      if (req.parentIssueId() != null && req.parentIssueId() > 0) {
+        issueIds.add(req.parentIssueId());
+      }
+      if (req.relatedIssuesId() != null) {
+        issueIds.addAll(req.relatedIssuesId());
+      }
+    }
+
+    Map<Long, Project> projects = projectService.getProjectsByIds(projectIds);
+    Map<Long, Member> assignees =
+        assigneeIds.isEmpty()
+            ? Map.of()
+            : memberService.getUsersByIds(assigneeIds).stream()
+                .collect(Collectors.toMap(Member::getId, member -> member));
+    Map<Long, Issue> issues =
+        issueIds.isEmpty()
+            ? Map.of()
+            : issueRepository.findAllByIdInAndIsDeletedFalse(List.copyOf(issueIds)).stream()
+                .collect(Collectors.toMap(Issue::getId, issue -> issue));
+    if (issues.size() != issueIds.size()) {
+      throw new BaseException(ErrorCode.INVALID_INPUT_VALUE, "존재하지 않는 이슈 ID가 있습니다.");
+    }
+
+    try {
+      List<Issue> newIssues = new ArrayList<>(reqs.size());
+      for (IssueRequest req : reqs) {
+        newIssues.add(
+            issueMapper.mappingIssue(
+                issueMapper.toIssue(req),
+                creator,
+                req.assigneeId() != null && !req.assigneeId().isEmpty()
+                    ? req.assigneeId().stream()
+                        .map(id -> assignees.get(id.longValue()))
+                        .collect(Collectors.toSet())
+                    : null,
+                projects.get(req.parentProjectId()),
+                req.parentIssueId() != null && req.parentIssueId() > 0
+                    ? issues.get(req.parentIssueId())
+                    : null,
+                req.relatedIssuesId() != null && !req.relatedIssuesId().isEmpty()
+                    ? req.relatedIssuesId().stream().map(issues::get).collect(Collectors.toSet())
+                    : null));
+      }
+
+      List<Issue> savedIssues = issueRepository.saveAll(newIssues);
+      issueClosureService.addIssues(savedIssues);
+
+      ProjectStatDelta statDelta = new ProjectStatDelta();
+      for (Issue issue : savedIssues) {
+        statDelta.add(
+            issue.getParentProject().getId(),
+            issue.getType(),
+            issue.getStatus(),
+            issue.getPriority(),
+            1);
+      }
+      projectStatService.apply(statDelta);
+
+      savedIssues.forEach(this::indexAfterCommit);
+      return savedIssues;
+
+    } catch (Exception e) {
+      throw new BaseException(ErrorCode.INTERNAL_SERVER_ERROR, e.getMessage());
+    }
+  }
+
+  // 커밋 후 메모리 색인 반영 (제목/태그 검색, 연관 이슈)
+  private void indexAfterCommit(Issue issue) {
+    Long id = issue.getId();
+    String title = issue.getTitle();
+    String subTitle = issue.getSubTitle();
+    Long projectId = issue.getParentProject().getId();
+    Set<String> tag = issue.getTag() != null ? Set.copyOf(issue.getTag()) : Set.of();
+    Set<Long> relatedIds = relatedIssueIds(issue);
+    TransactionUtil.afterCommit(
+        () -> {
+          titleSearchIndex.indexIssue(id, title, subTitle);
+          tagSearchIndex.indexIssue(id, projectId, tag);
+          relatedIssueGraph.setRelatedIssues(id, relatedIds);
+        });
+  }
+
+  private Set<Long> relatedIssueIds(Issue issue) {
+    return issue.getRelatedIssues() != null
+        ? issue.getRelatedIssues().stream().map(Issue::getId).collect(Collectors.toSet())
+        : Set.of();
+  }
+
+  /*
+   * 이슈 다중 필드 수정
+   * - 요청된 모든 필드를 하나의 트랜잭션에서 변경하며, 하나라도 실패하면 전체 롤백
+   * - 엔티티 변경은 커밋 시 dirty checking 으로 한 번에 flush, 변경이력은 JDBC 배치로 한 번에 등록
+   * */
+  @Transactional(rollbackFor = BaseException.class)
   public void putIssuesById(Long id, Map<String, Object> req, UserDetails userDetails)
       throws BaseException {
+    if (req == null || req.isEmpty()) {
+      throw new BaseException(ErrorCode.INVALID_INPUT_VALUE, "수정할 필드를 입력해주세요.");
+    }
     Issue originIssue = getIssuesById(id);
     try {
-      String key = req.keySet().iterator().next();
-      Object value = req.values().iterator().next();
       Member modifier = memberService.getUsersByEmail(userDetails.getUsername());
-      String beforeValue;
-      String afterValue;
-
-      switch (key) {
-        case "type":
-          IssueType newType = IssueType.valueOf(value.toString());
-          beforeValue = originIssue.getType().toString();
-          afterValue = newType.toString();
-          issueRepository.save(issueMapper.putIssueType(originIssue, 0, newType));
-          break;
-        case "status":
-          IssueStatus newStatus = IssueStatus.valueOf(value.toString());
-          beforeValue = Objects.toString(originIssue.getStatus(), null);
-          afterValue = newStatus.toString();
-          issueRepository.save(issueMapper.putIssueStatus(originIssue, 0, newStatus));
-          break;
-        case "priority":
-          Priority newPriority = Priority.valueOf(value.toString());
-          beforeValue = Objects.toString(originIssue.getPriority(), null);
-          afterValue = newPriority.toString();
-          issueRepository.save(issueMapper.putIssuePriority(originIssue, 0, newPriority));
-          break;
-
-        case "title":
-          beforeValue = originIssue.getTitle();
-          afterValue = value.toString();
-          issueRepository.save(issueMapper.putIssueTitle(originIssue, value.toString()));
-          break;
-        case "subTitle":
-          String newSubTitle = Objects.toString(value, null);
-          beforeValue = originIssue.getSubTitle();
-          afterValue = newSubTitle;
-          issueRepository.save(issueMapper.putIssueSubTitle(originIssue, 0, newSubTitle));
-          break;
-        case "assigneeId":
-          Set<Member> newAssignee =
-              value != null
-                  ? memberService.getUsersByIds(new HashSet<>((List<Integer>) value))
-                  : null;
-          beforeValue =
-              !originIssue.getAssignee().isEmpty()
-                  ? originIssue.getAssignee().stream().map(Member::getId).toList().toString()
-                  : null;
-          afterValue =
-              newAssignee != null
-                  ? newAssignee.stream().map(Member::getId).toList().toString()
-                  : null;
-          issueRepository.save(issueMapper.putIssueAssignee(originIssue, 0, newAssignee));
-          break;
-        case "dueDate":
-        case "startDate":
-        case "endDate":
-          LocalDate newDate =
-              value != null
-                  ? LocalDate.parse(value.toString(), DateTimeFormatter.ofPattern("yyyy-MM-dd"))
-                  : null;
-          beforeValue =
-              key.equals("dueDate")
-                  ? Objects.toString(originIssue.getDueDate(), null)
-                  : key.equals("startDate")
-                      ? Objects.toString(originIssue.getStartDate(), null)
-                      : Objects.toString(originIssue.getEndDate(), null);
-          afterValue = newDate != null ? newDate.toString() : null;
-          issueRepository.save(updateIssueDateField(originIssue, key, newDate));
-          break;
-        case "description":
-          String newDescription = Objects.toString(value, null);
-          beforeValue = originIssue.getDescription();
-          afterValue = newDescription;
-          issueRepository.save(issueMapper.putIssueDescription(originIssue, 0, newDescription));
-          break;
-        case "tag":
-          Set<String> newTag = value != null ? new HashSet<>((List<String>) value) : null;
-          beforeValue = !originIssue.getTag().isEmpty() ? originIssue.getTag().toString() : null;
-          afterValue = Objects.toString(newTag, null);
-          issueRepository.save(issueMapper.putIssueTag(originIssue, 0, newTag));
-          break;
-        case "relatedIssuesId":
-          Set<Issue> newRelatedIssues =
-              value != null ? getIssuesByIds(new HashSet<>((List<Long>) value)) : null;
-          beforeValue =
-              !originIssue.getRelatedIssues().isEmpty()
-                  ? originIssue.getRelatedIssues().stream().map(Issue::getId).toList().toString()
-                  : null;
-          afterValue =
-              newRelatedIssues != null
-                  ? newRelatedIssues.stream().map(Issue::getId).toList().toString()
-                  : null;
-          issueRepository.save(issueMapper.putIssueRelatedIssues(originIssue, 0, newRelatedIssues));
-          break;
-        default:
-          throw new BaseException(ErrorCode.INVALID_INPUT_VALUE);
+      List<History> histories = new ArrayList<>(req.size());
+      IssueType originType = originIssue.getType();
+      IssueStatus originStatus = originIssue.getStatus();
+      Priority originPriority = originIssue.getPriority();
+
+      for (Map.Entry<String, Object> entry : req.entrySet()) {
+        String key = entry.getKey();
+        Object value = entry.getValue();
+        String beforeValue;
+        String afterValue;
+
+        switch (key) {
+          case "type":
+            IssueType newType = IssueType.valueOf(value.toString());
+            beforeValue = originIssue.getType().toString();
+            afterValue = newType.toString();
+            issueMapper.putIssueType(originIssue, 0, newType);
+            break;
+          case "status":
+            IssueStatus newStatus = IssueStatus.valueOf(value.toString());
+            beforeValue = Objects.toString(originIssue.getStatus(), null);
+            afterValue = newStatus.toString();
+            issueMapper.putIssueStatus(originIssue, 0, newStatus);
+            break;
+          case "priority":
+            Priority newPriority = Priority.valueOf(value.toString());
+            beforeValue = Objects.toString(originIssue.getPriority(), null);
+            afterValue = newPriority.toString();
+            issueMapper.putIssuePriority(originIssue, 0, newPriority);
+            break;
+
+          case "title":
+            beforeValue = originIssue.getTitle();
+            afterValue = value.toString();
+            issueMapper.putIssueTitle(originIssue, value.toString());
+            break;
+          case "subTitle":
+            String newSubTitle = Objects.toString(value, null);
+            beforeValue = originIssue.getSubTitle();
+            afterValue = newSubTitle;
+            issueMapper.putIssueSubTitle(originIssue, 0, newSubTitle);
+            break;
+          case "assigneeId":
+            Set<Member> newAssignee =
+                value != null
+                    ? memberService.getUsersByIds(new HashSet<>((List<Integer>) value))
+                    : null;
+            beforeValue =
+                !originIssue.getAssignee().isEmpty()
+                    ? originIssue.getAssignee().stream().map(Member::getId).toList().toString()
+                    : null;
+            afterValue =
+                newAssignee != null
+                    ? newAssignee.stream().map(Member::getId).toList().toString()
+                    : null;
+            issueMapper.putIssueAssignee(originIssue, 0, newAssignee);
+            break;
+          case "dueDate":
+          case "startDate":
+          case "endDate":
+            LocalDate newDate =
+                value != null
+                    ? LocalDate.parse(value.toString(), DateTimeFormatter.ofPattern("yyyy-MM-dd"))
+                    : null;
+            beforeValue =
+                key.equals("dueDate")
+                    ? Objects.toString(originIssue.getDueDate(), null)
+                    : key.equals("startDate")
+                        ? Objects.toString(originIssue.getStartDate(), null)
+                        : Objects.toString(originIssue.getEndDate(), null);
+            afterValue = newDate != null ? newDate.toString() : null;
+            updateIssueDateField(originIssue, key, newDate);
+            break;
+          case "description":
+            String newDescription = Objects.toString(value, null);
+            beforeValue = originIssue.getDescription();
+            afterValue = newDescription;
+            issueMapper.putIssueDescription(originIssue, 0, newDescription);
+            break;
+          case "tag":
+            Set<String> newTag = value != null ? new HashSet<>((List<String>) value) : null;
+            beforeValue = !originIssue.getTag().isEmpty() ? originIssue.getTag().toString() : null;
+            afterValue = Objects.toString(newTag, null);
+            issueMapper.putIssueTag(originIssue, 0, newTag);
+            break;
+          case "relatedIssuesId":
+            Set<Issue> newRelatedIssues =
+                value != null ? getIssuesByIds(new HashSet<>((List<Long>) value)) : null;
+            beforeValue =
+                !originIssue.getRelatedIssues().isEmpty()
+                    ? originIssue.getRelatedIssues().stream().map(Issue::getId).toList().toString()
+                    : null;
+            afterValue =
+                newRelatedIssues != null
+                    ? newRelatedIssues.stream().map(Issue::getId).toList().toString()
+                    : null;
+            issueMapper.putIssueRelatedIssues(originIssue, 0, newRelatedIssues);
+            break;
+          default:
+            throw new BaseException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        histories.add(
+            History.builder()
+                .category(IssueCategory.ISSUE)
+                .issueId(id)
+                .fieldName(key)
+                .beforeValue(beforeValue)
+                .afterValue(afterValue)
+                .modifier(modifier)
+                .build());
       }
 
-      historyService.setHistory(IssueCategory.ISSUE, id, beforeValue, afterValue, key, modifier);
+      historyService.setHistories(histories);
+
+      Long projectId = originIssue.getParentProject().getId();
+      projectStatService.apply(
+          new ProjectStatDelta()
+              .change(projectId, StatDimension.TYPE, originType, originIssue.getType())
+              .change(projectId, StatDimension.STATUS, originStatus, originIssue.getStatus())
+              .change(
+                  projectId, StatDimension.PRIORITY, originPriority, originIssue.getPriority()));
+
+      if (req.containsKey("title") || req.containsKey("subTitle")) {
+        String title = originIssue.getTitle();
+        String subTitle = originIssue.getSubTitle();
+        TransactionUtil.afterCommit(() -> titleSearchIndex.indexIssue(id, title, subTitle));
+      }
+      if (req.containsKey("relatedIssuesId")) {
+        Set<Long> relatedIds = relatedIssueIds(originIssue);
+        TransactionUtil.afterCommit(() -> relatedIssueGraph.setRelatedIssues(id, relatedIds));
+      }
+      if (req.containsKey("tag")) {
+        Set<String> tag =
+            originIssue.getTag() != null ? Set.copyOf(originIssue.getTag()) : Set.of();
+        TransactionUtil.afterCommit(() -> tagSearchIndex.indexIssue(id, projectId, tag));
+      }
 
     } catch (Exception e) {
       throw new BaseException(ErrorCode.INTERNAL_SERVER_ERROR, e.getMessage());
@@ -379,57 +689,64 @@ public class IssueService {
                     new BaseException(
                         ErrorCode.INVALID_INPUT_VALUE, "존재하지 않는 이슈입니다. (id: " + id + ")"));
     try {
-      List<Long> ids = getAllChildIssueIds(issue.getId());
+      List<Long> ids = issueClosureService.getDescendantIds(issue.getId());
+
+      // 삭제 여부가 실제로 바뀌는 이슈만 집계에 반영
+      ProjectStatDelta statDelta = new ProjectStatDelta();
+      queryFactory
+          .select(qIssue.parentProject.id, qIssue.type, qIssue.status, qIssue.priority)
+          .from(qIssue)
+          .where(qIssue.id.in(ids), qIssue.isDeleted.ne(flag))
+          .fetch()
+          .forEach(
+              row ->
+                  statDelta.add(
+                      row.get(qIssue.parentProject.id),
+                      row.get(qIssue.type),
+                      row.get(qIssue.status),
+                      row.get(qIssue.priority),
+                      flag ? -1 : 1));
+
       queryFactory
           .update(qIssue)
           .set(qIssue.isDeleted, flag)
           .set(qIssue.updatedDate, LocalDateTime.now())
           .where(qIssue.id.in(ids))
           .execute();
+      projectStatService.apply(statDelta);
+      TransactionUtil.afterCommit(() -> tagSearchIndex.setIssuesDeleted(ids, flag));
     } catch (Exception e) {
       throw new BaseException(ErrorCode.INTERNAL_SERVER_ERROR, e.getMessage());
     }
   }
 
-  private List<Long> getAllChildIssueIds(Long parentId) {
-    List<Long> ids = new ArrayList<>(List.of(parentId));
-    Queue<Long> queue = new ArrayDeque<>(List.of(parentId));
-    while (!queue.isEmpty()) {
-      Long id = queue.poll();
-      List<Long> subIssueIds =
-          queryFactory.select(qIssue.id).from(qIssue).where(qIssue.parentIssue.id.eq(id)).fetch();
-      queue.addAll(subIssueIds);
-      ids.addAll(subIssueIds);
-    }
-    return ids;
-  }
-
   public boolean existById(Long id) {
     return issueRepository.existsById(id);
   }
 
+  /*
+   * 이슈 내보내기
+   * - 전체 목록을 메모리에 올리지 않도록 IssueExportReader 로 chunk 단위 조회하여 한 행씩 기록
+   * */
   public void exportIssues(String format, Long projectId, List<Long> ids, OutputStream outputStream)
       throws IOException {
+    Predicate condition =
+        ids != null
+            ? ExpressionUtils.allOf(qIssue.id.in(ids), qIssue.isDeleted.isFalse())
+            : qIssue.parentProject.id.eq(projectId);
 
-    List<IssueResponse> issues;
-    if (ids != null) {
-      issues =
-          issueRepository.findAllByIdInAndIsDeletedFalse(ids).stream()
-              .map(issueMapper::toResponse)
-              .toList();
-    } else {
-      issues =
-          issueRepository.findAllByParentProjectId(projectId).stream()
-              .map(issueMapper::toResponse)
-              .toList();
-    }
+    try (Stream<IssueResponse> issues = issueExportReader.read(condition)) {
+      AtomicInteger count = new AtomicInteger();
+      Stream<IssueResponse> responses = issues.peek(issue -> count.incrementAndGet());
 
-    try {
       if ("csv".equals(format)) {
-        issueFileService.exportIssuesToCsv(issues, outputStream);
+        issueFileService.exportIssuesToCsv(responses, outputStream);
       } else if ("xlsx".equals(format)) {
-        issueFileService.exportIssuesToXlsx(issues, outputStream);
+        issueFileService.exportIssuesToXlsx(responses, outputStream);
       }
+      meterRegistry
+          .counter(MetricsConfig.EXPORT_ROWS_COUNTER, "type", "issue", "format", format)
+          .increment(count.get());
     } catch (IOException e) {
       throw new IOException(e.getMessage(), e);
     }
@@ -0,0 +1,18 @@
+package net.devgrr.interp.ia.api.work.issue.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+@Schema(description = "이슈 일괄 등록 요청 객체")
+public record IssueBulkRequest(
+    @Schema(description = "등록할 이슈 목록 (최대 1000건)")
+        @NotEmpty(message = "필수값: issues", groups = IssueValidationGroup.postGroup.class)
+        @Size(
+            max = 1000,
+            message = "한 번에 최대 1000건까지 등록할 수 있습니다.",
+            groups = IssueValidationGroup.postGroup.class)
+        @Valid
+        List<IssueRequest> issues) {}
@@ -0,0 +1,33 @@
+package net.devgrr.interp.ia.api.work.issue.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import net.devgrr.interp.ia.api.config.exception.BaseException;
+import net.devgrr.interp.ia.api.config.exception.ErrorCode;
+
+/*
+ * 이슈 검색 커서 (createdDate, id)
+ * - 클라이언트에는 Base64 URL 인코딩된 문자열로만 전달
+ * */
+public record IssueCursor(LocalDateTime createdDate, Long id) {
+
+  private static final String DELIMITER = ",";
+
+  public String encode() {
+    String raw = createdDate + DELIMITER + id;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static IssueCursor decode(String cursor) throws BaseException {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      String[] parts = raw.split(DELIMITER);
+      return new IssueCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+    } catch (Exception e) {
+      throw new BaseException(ErrorCode.INVALID_INPUT_VALUE, "유효하지 않은 cursor 입니다.");
+    }
+  }
+}
@@ -0,0 +1,10 @@
+package net.devgrr.interp.ia.api.work.issue.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema(description = "이슈 커서 페이지 응답 객체")
+public record IssueCursorResponse(
+    @Schema(description = "이슈 목록") List<IssueResponse> issues,
+    @Schema(description = "다음 페이지 조회용 커서 (마지막 페이지일 경우 null)") String nextCursor,
+    @Schema(description = "다음 페이지 존재 여부") Boolean hasNext) {}
@@ -0,0 +1,45 @@
+package net.devgrr.interp.ia.api.work.issue.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import net.devgrr.interp.ia.api.config.issue.IssueStatus;
+import net.devgrr.interp.ia.api.config.issue.IssueType;
+import net.devgrr.interp.ia.api.config.issue.Priority;
+import org.springframework.format.annotation.DateTimeFormat;
+
+@Schema(description = "이슈 검색 조건")
+public record IssueSearchCondition(
+    @Schema(description = "상위 프로젝트 ID") Long projectId,
+    @Schema(description = "상위 이슈 ID") Long parentIssueId,
+    @Schema(description = "이슈 ID") Long issueId,
+    @Schema(description = "유형") IssueType type,
+    @Schema(description = "상태") IssueStatus status,
+    @Schema(description = "중요도") Priority priority,
+    @Schema(description = "이슈 제목") String title,
+    @Schema(description = "이슈 부제목") String subTitle,
+    @Schema(description = "생성자 ID") Long creatorId,
+    @Schema(description = "담당자 ID") List<Long> assigneeId,
+    @Schema(description = "생성일 시작 (yyyy-MM-dd)") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate createdDateFrom,
+    @Schema(description = "생성일 종료 (yyyy-MM-dd)") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate createdDateTo,
+    @Schema(description = "수정일 시작 (yyyy-MM-dd)") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate updatedDateFrom,
+    @Schema(description = "수정일 종료 (yyyy-MM-dd)") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate updatedDateTo,
+    @Schema(description = "기한일 시작 (yyyy-MM-dd)") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate dueDateFrom,
+    @Schema(description = "기한일 종료 (yyyy-MM-dd)") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate dueDateTo,
+    @Schema(description = "시작일 시작 (yyyy-MM-dd)") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate startDateFrom,
+    @Schema(description = "시작일 종료 (yyyy-MM-dd)") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate startDateTo,
+    @Schema(description = "종료일 시작 (yyyy-MM-dd)") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate endDateFrom,
+    @Schema(description = "종료일 종료 (yyyy-MM-dd)") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate endDateTo,
+    @Schema(description = "태그") Set<String> tag,
+    @Schema(description = "태그 전체 일치 여부 (기본값: false, 하나 이상 일치)") Boolean tagMatchAll) {}
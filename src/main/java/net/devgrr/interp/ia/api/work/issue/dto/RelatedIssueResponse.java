@@ -0,0 +1,8 @@
+package net.devgrr.interp.ia.api.work.issue.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "연관 이슈 탐색 응답 객체")
+public record RelatedIssueResponse(
+    @Schema(description = "기준 이슈로부터의 연관 단계 (1: 직접 연관)") Integer distance,
+    @Schema(description = "연관 이슈") IssueRefResponse issue) {}
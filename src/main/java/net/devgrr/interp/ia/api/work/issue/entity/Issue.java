@@ -14,6 +14,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.Transient;
 import java.time.LocalDate;
@@ -40,8 +41,16 @@ import org.hibernate.annotations.DynamicUpdate;
 @AllArgsConstructor
 @DynamicUpdate
 public class Issue extends BaseEntity {
+  public static final String SEQUENCE_NAME = "issue_seq";
+  public static final int SEQUENCE_ALLOCATION_SIZE = 50;
+
+  // IDENTITY 전략은 insert 배치가 불가하므로 시퀀스 사용 (IssueSequenceAligner 참고)
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = SEQUENCE_NAME)
+  @SequenceGenerator(
+      name = SEQUENCE_NAME,
+      sequenceName = SEQUENCE_NAME,
+      allocationSize = SEQUENCE_ALLOCATION_SIZE)
   @Schema(description = "고유 ID")
   private Long id;
 
@@ -0,0 +1,216 @@
+package net.devgrr.interp.ia.api.work.issue.file;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+import net.devgrr.interp.ia.api.member.dto.MemberResponse;
+import net.devgrr.interp.ia.api.member.entity.QMember;
+import net.devgrr.interp.ia.api.work.issue.dto.IssueRefResponse;
+import net.devgrr.interp.ia.api.work.issue.dto.IssueResponse;
+import net.devgrr.interp.ia.api.work.issue.entity.QIssue;
+import net.devgrr.interp.ia.api.work.project.dto.ProjectRefResponse;
+import net.devgrr.interp.ia.api.work.project.entity.QProject;
+import org.springframework.stereotype.Component;
+
+/*
+ * 이슈 내보내기용 조회
+ * - 이슈 ID 순으로 CHUNK_SIZE 건씩 keyset 조회 (커서를 열어 둔 채 다른 쿼리를 실행하지 않음)
+ *   MariaDB 는 스트리밍 결과가 열려 있는 동안 다른 쿼리를 실행하면 남은 결과를 모두 메모리에 적재하므로
+ *   fetch size 기반 Stream 대신 사용
+ * - 엔티티 대신 필요한 컬럼만 조회하므로 EAGER 연관 관계(생성자, 상위 프로젝트, 상위 이슈)를 따로 조회하지 않음
+ * - 담당자, 태그, 연관 이슈는 chunk 마다 1회씩 일괄 조회
+ * - 상위 프로젝트, 상위 이슈, 연관 이슈는 ID, 제목, 유형, 상태, 중요도만 포함
+ * */
+@Component
+public class IssueExportReader {
+
+  private static final int CHUNK_SIZE = 500;
+
+  private final JPAQueryFactory queryFactory;
+
+  private final QIssue qIssue = QIssue.issue;
+  private final QIssue qParentIssue = new QIssue("qParentIssue");
+  private final QIssue qRelatedIssue = new QIssue("qRelatedIssue");
+  private final QProject qProject = QProject.project;
+  private final QMember qCreator = new QMember("qCreator");
+  private final QMember qAssignee = new QMember("qAssignee");
+  private final StringPath qTag = Expressions.stringPath("qTag");
+
+  public IssueExportReader(JPAQueryFactory queryFactory) {
+    this.queryFactory = queryFactory;
+  }
+
+  // 트랜잭션 내에서 소비해야 함 (chunk 는 소비하는 시점에 조회)
+  public Stream<IssueResponse> read(Predicate condition) {
+    return Stream.iterate(
+            readChunk(condition, 0L),
+            chunk -> !chunk.isEmpty(),
+            chunk -> readChunk(condition, chunk.get(chunk.size() - 1).id()))
+        .flatMap(List::stream);
+  }
+
+  private List<IssueResponse> readChunk(Predicate condition, Long afterId) {
+    List<Tuple> rows =
+        queryFactory
+            .select(
+                qIssue.id,
+                qIssue.title,
+                qIssue.subTitle,
+                qIssue.type,
+                qIssue.status,
+                qIssue.priority,
+                member(qCreator),
+                qIssue.createdDate,
+                qIssue.updatedDate,
+                qIssue.dueDate,
+                qIssue.startDate,
+                qIssue.endDate,
+                qIssue.description,
+                qProject.id,
+                qProject.title,
+                qProject.type,
+                qProject.status,
+                qProject.priority,
+                qParentIssue.id,
+                qParentIssue.title,
+                qParentIssue.type,
+                qParentIssue.status,
+                qParentIssue.priority)
+            .from(qIssue)
+            .innerJoin(qIssue.creator, qCreator)
+            .innerJoin(qIssue.parentProject, qProject)
+            .leftJoin(qIssue.parentIssue, qParentIssue)
+            .where(condition, qIssue.id.gt(afterId))
+            .orderBy(qIssue.id.asc())
+            .limit(CHUNK_SIZE)
+            .fetch();
+    if (rows.isEmpty()) {
+      return List.of();
+    }
+
+    List<Long> ids = rows.stream().map(row -> row.get(qIssue.id)).toList();
+    Map<Long, Set<MemberResponse>> assignees = new HashMap<>();
+    queryFactory
+        .select(qIssue.id, member(qAssignee))
+        .from(qIssue)
+        .innerJoin(qIssue.assignee, qAssignee)
+        .where(qIssue.id.in(ids))
+        .orderBy(qAssignee.name.asc())
+        .fetch()
+        .forEach(
+            row ->
+                assignees
+                    .computeIfAbsent(row.get(qIssue.id), k -> new LinkedHashSet<>())
+                    .add(row.get(1, MemberResponse.class)));
+
+    Map<Long, Set<String>> tags = new HashMap<>();
+    queryFactory
+        .select(qIssue.id, qTag)
+        .from(qIssue)
+        .innerJoin(qIssue.tag, qTag)
+        .where(qIssue.id.in(ids))
+        .fetch()
+        .forEach(
+            row ->
+                tags.computeIfAbsent(row.get(qIssue.id), k -> new LinkedHashSet<>())
+                    .add(row.get(qTag)));
+
+    Map<Long, Set<IssueRefResponse>> relatedIssues = new HashMap<>();
+    queryFactory
+        .select(
+            qIssue.id,
+            qRelatedIssue.id,
+            qRelatedIssue.title,
+            qRelatedIssue.type,
+            qRelatedIssue.status,
+            qRelatedIssue.priority)
+        .from(qIssue)
+        .innerJoin(qIssue.relatedIssues, qRelatedIssue)
+        .where(qIssue.id.in(ids))
+        .fetch()
+        .forEach(
+            row ->
+                relatedIssues
+                    .computeIfAbsent(row.get(qIssue.id), k -> new LinkedHashSet<>())
+                    .add(
+                        new IssueRefResponse(
+                            row.get(qRelatedIssue.id),
+                            row.get(qRelatedIssue.title),
+                            row.get(qRelatedIssue.type),
+                            row.get(qRelatedIssue.status),
+                            row.get(qRelatedIssue.priority),
+                            null,
+                            null,
+                            null)));
+
+    return rows.stream()
+        .map(
+            row -> {
+              Long id = row.get(qIssue.id);
+              Long parentIssueId = row.get(qParentIssue.id);
+              return new IssueResponse(
+                  id,
+                  row.get(qIssue.title),
+                  row.get(qIssue.subTitle),
+                  row.get(qIssue.type),
+                  row.get(qIssue.status),
+                  row.get(qIssue.priority),
+                  row.get(6, MemberResponse.class),
+                  assignees.getOrDefault(id, Set.of()),
+                  row.get(qIssue.createdDate),
+                  row.get(qIssue.updatedDate),
+                  row.get(qIssue.dueDate),
+                  row.get(qIssue.startDate),
+                  row.get(qIssue.endDate),
+                  row.get(qIssue.description),
+                  tags.getOrDefault(id, Set.of()),
+                  new ProjectRefResponse(
+                      row.get(qProject.id),
+                      row.get(qProject.title),
+                      row.get(qProject.type),
+                      row.get(qProject.status),
+                      row.get(qProject.priority),
+                      null,
+                      null),
+                  parentIssueId == null
+                      ? null
+                      : new ProjectRefResponse(
+                          parentIssueId,
+                          row.get(qParentIssue.title),
+                          row.get(qParentIssue.type),
+                          row.get(qParentIssue.status),
+                          row.get(qParentIssue.priority),
+                          null,
+                          null),
+                  null,
+                  relatedIssues.getOrDefault(id, Set.of()));
+            })
+        .toList();
+  }
+
+  private static ConstructorExpression<MemberResponse> member(QMember member) {
+    return Projections.constructor(
+        MemberResponse.class,
+        member.id,
+        member.email,
+        member.name,
+        member.image,
+        member.position,
+        member.department,
+        member.job,
+        member.phone,
+        member.isActive,
+        member.createdDate,
+        member.updatedDate);
+  }
+}
@@ -7,21 +7,24 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.nio.charset.StandardCharsets;
-import java.util.List;
+import java.util.Iterator;
+import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import net.devgrr.interp.ia.api.member.dto.MemberResponse;
 import net.devgrr.interp.ia.api.work.issue.dto.IssueResponse;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.springframework.stereotype.Service;
 
 @Slf4j
 @Service
 public class IssueFileService {
 
-  public void exportIssuesToCsv(List<IssueResponse> issues, OutputStream outputStream)
+  private static final int ROW_ACCESS_WINDOW = 100;
+
+  // 행 단위로 바로 출력 스트림에 기록 (버퍼가 차면 자동 flush)
+  public void exportIssuesToCsv(Stream<IssueResponse> issues, OutputStream outputStream)
       throws IOException {
 
     try {
@@ -31,7 +34,9 @@ public class IssueFileService {
 
       writer.write("프로젝트 ID,프로젝트 제목,ID,제목,부제목,유형,상태,중요도,생성자,담당자,생성일,수정일,시작일,종료일,기한일,상위이슈 ID\n");
 
-      for (IssueResponse issue : issues) {
+      Iterator<IssueResponse> iterator = issues.iterator();
+      while (iterator.hasNext()) {
+        IssueResponse issue = iterator.next();
         writer.write(
             String.format(
                 "%d,%s,%d,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s\n",
@@ -65,11 +70,13 @@ public class IssueFileService {
     }
   }
 
-  public void exportIssuesToXlsx(List<IssueResponse> issues, OutputStream outputStream)
+  // 최근 ROW_ACCESS_WINDOW 개 행만 메모리에 유지하고 나머지는 임시 파일로 내보냄
+  public void exportIssuesToXlsx(Stream<IssueResponse> issues, OutputStream outputStream)
       throws IOException {
 
+    SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW);
+    workbook.setCompressTempFiles(true);
     try {
-      Workbook workbook = new XSSFWorkbook();
       Sheet sheet = workbook.createSheet("Issues");
 
       Row header = sheet.createRow(0);
@@ -82,7 +89,9 @@ public class IssueFileService {
       }
 
       int rowIdx = 1;
-      for (IssueResponse issue : issues) {
+      Iterator<IssueResponse> iterator = issues.iterator();
+      while (iterator.hasNext()) {
+        IssueResponse issue = iterator.next();
         Row row = sheet.createRow(rowIdx++);
         row.createCell(0).setCellValue(issue.parentProject().id());
         row.createCell(1).setCellValue(issue.parentProject().title());
@@ -116,11 +125,13 @@ public class IssueFileService {
       }
 
       workbook.write(outputStream);
-      workbook.close();
 
     } catch (IOException e) {
       log.error("Failed to export issues to XLSX.", e);
       throw new IOException(e);
+    } finally {
+      workbook.dispose();
+      workbook.close();
     }
   }
 }
@@ -0,0 +1,87 @@
+package net.devgrr.interp.ia.api.work.issue.hierarchy;
+
+import java.util.Collection;
+import java.util.List;
+import net.devgrr.interp.ia.api.work.issue.hierarchy.entity.IssueClosure;
+import net.devgrr.interp.ia.api.work.issue.hierarchy.entity.IssueClosureId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface IssueClosureRepository extends JpaRepository<IssueClosure, IssueClosureId> {
+
+  long countByDepth(Integer depth);
+
+  @Query(
+      nativeQuery = true,
+      value =
+          """
+          SELECT COUNT(*) FROM issue i
+          WHERE NOT EXISTS (
+            SELECT 1 FROM issue_closure c
+            WHERE c.ancestor_id = i.id AND c.descendant_id = i.id AND c.depth = 0
+          )
+          """)
+  long countIssuesWithoutSelfRow();
+
+  @Query(
+      nativeQuery = true,
+      value =
+          """
+          SELECT COUNT(*) FROM issue i
+          WHERE i.parent_issue_id IS NOT NULL AND NOT EXISTS (
+            SELECT 1 FROM issue_closure c
+            WHERE c.ancestor_id = i.parent_issue_id AND c.descendant_id = i.id AND c.depth = 1
+          )
+          """)
+  long countSubIssuesWithoutParentRow();
+
+  // 자기 자신 포함
+  @Query("select c.descendantId from IssueClosure c where c.ancestorId = :id")
+  List<Long> findDescendantIds(@Param("id") Long id);
+
+  // 자기 자신, 삭제된 이슈 제외
+  @Query(
+      "select c.descendantId from IssueClosure c"
+          + " join Issue i on i.id = c.descendantId and i.isDeleted = false"
+          + " where c.ancestorId in :ids and c.depth > 0")
+  List<Long> findSubIssueIds(@Param("ids") Collection<Long> ids);
+
+  @Modifying
+  @Query(
+      nativeQuery = true,
+      value = "INSERT INTO issue_closure (ancestor_id, descendant_id, depth) VALUES (:id, :id, 0)")
+  void insertSelf(@Param("id") Long id);
+
+  @Modifying
+  @Query(
+      nativeQuery = true,
+      value =
+          """
+          INSERT INTO issue_closure (ancestor_id, descendant_id, depth)
+          SELECT c.ancestor_id, :id, c.depth + 1 FROM issue_closure c
+          WHERE c.descendant_id = :parentId
+          """)
+  void insertAncestors(@Param("id") Long id, @Param("parentId") Long parentId);
+
+  @Modifying
+  @Query(nativeQuery = true, value = "DELETE FROM issue_closure")
+  void deleteAllRows();
+
+  @Modifying
+  @Query(
+      nativeQuery = true,
+      value =
+          """
+          INSERT INTO issue_closure (ancestor_id, descendant_id, depth)
+          WITH RECURSIVE tree (ancestor_id, descendant_id, depth) AS (
+            SELECT i.id, i.id, 0 FROM issue i
+            UNION ALL
+            SELECT t.ancestor_id, i.id, t.depth + 1 FROM tree t
+            INNER JOIN issue i ON i.parent_issue_id = t.descendant_id
+          )
+          SELECT ancestor_id, descendant_id, depth FROM tree
+          """)
+  void insertAllFromIssues();
+}
@@ -0,0 +1,101 @@
+package net.devgrr.interp.ia.api.work.issue.hierarchy;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.devgrr.interp.ia.api.work.issue.IssueRepository;
+import net.devgrr.interp.ia.api.work.issue.entity.Issue;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/*
+ * issue_closure 테이블 관리
+ * - (상위 이슈, 하위 이슈, 깊이) 전체 경로를 저장하여 하위/상위 이슈 조회를 단일 인덱스 조회로 처리
+ * - 이슈 생성 시 함께 갱신해야 함 (이슈 수정으로는 상위 이슈를 변경할 수 없음)
+ * */
+@Slf4j
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@Service
+public class IssueClosureService implements SmartInitializingSingleton {
+
+  private final IssueClosureRepository issueClosureRepository;
+  private final IssueRepository issueRepository;
+  private final JdbcTemplate jdbcTemplate;
+
+  private static final String INSERT_SELF =
+      "INSERT INTO issue_closure (ancestor_id, descendant_id, depth) VALUES (?, ?, 0)";
+  private static final String INSERT_ANCESTORS =
+      "INSERT INTO issue_closure (ancestor_id, descendant_id, depth)"
+          + " SELECT c.ancestor_id, ?, c.depth + 1 FROM issue_closure c WHERE c.descendant_id = ?";
+
+  // 자기 자신 포함
+  public List<Long> getDescendantIds(Long id) {
+    return issueClosureRepository.findDescendantIds(id);
+  }
+
+  @Transactional
+  public void addIssue(Long id, Long parentIssueId) {
+    issueClosureRepository.insertSelf(id);
+    if (parentIssueId != null) {
+      issueClosureRepository.insertAncestors(id, parentIssueId);
+    }
+  }
+
+  // 상위 이슈는 이미 등록된 이슈여야 함
+  @Transactional
+  public void addIssues(List<Issue> issues) {
+    if (issues.isEmpty()) {
+      return;
+    }
+    jdbcTemplate.batchUpdate(
+        INSERT_SELF,
+        issues,
+        issues.size(),
+        (ps, issue) -> {
+          ps.setLong(1, issue.getId());
+          ps.setLong(2, issue.getId());
+        });
+    List<Issue> subIssues =
+        issues.stream().filter(issue -> issue.getParentIssue() != null).toList();
+    jdbcTemplate.batchUpdate(
+        INSERT_ANCESTORS,
+        subIssues,
+        subIssues.size(),
+        (ps, issue) -> {
+          ps.setLong(1, issue.getId());
+          ps.setLong(2, issue.getParentIssue().getId());
+        });
+  }
+
+  /*
+   * 클로저 테이블 도입 이전 데이터, 직접 insert 된 데이터 등으로 테이블이 어긋난 경우 전체 재구성
+   * - 웹 서버가 요청을 받기 전(싱글톤 초기화 직후)에 실행하여 재구성 중 이슈 생성과 겹치지 않도록 함
+   * - 모든 이슈의 자기 참조 행(깊이 0)과 상위 이슈 행(깊이 1)이 정확히 있는지 확인
+   *   (깊이 2 이상은 등록 시 상위 이슈의 행으로부터 만들어지므로 별도로 확인하지 않음)
+   * */
+  @Override
+  @Transactional
+  public void afterSingletonsInstantiated() {
+    if (!isOutdated()) {
+      return;
+    }
+    log.info("Rebuilding issue_closure for {} issues.", issueRepository.count());
+    rebuild();
+  }
+
+  private boolean isOutdated() {
+    return issueClosureRepository.countByDepth(0) != issueRepository.count()
+        || issueClosureRepository.countIssuesWithoutSelfRow() > 0
+        || issueClosureRepository.countByDepth(1) != issueRepository.countByParentIssueIsNotNull()
+        || issueClosureRepository.countSubIssuesWithoutParentRow() > 0;
+  }
+
+  @Transactional
+  public void rebuild() {
+    issueClosureRepository.deleteAllRows();
+    issueClosureRepository.insertAllFromIssues();
+  }
+}
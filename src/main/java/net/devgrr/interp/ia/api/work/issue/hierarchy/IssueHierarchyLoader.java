@@ -0,0 +1,172 @@
+package net.devgrr.interp.ia.api.work.issue.hierarchy;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import net.devgrr.interp.ia.api.config.mapStruct.IssueMapper;
+import net.devgrr.interp.ia.api.member.entity.QMember;
+import net.devgrr.interp.ia.api.work.issue.entity.Issue;
+import net.devgrr.interp.ia.api.work.issue.entity.QIssue;
+import net.devgrr.interp.ia.api.work.project.entity.QProject;
+import org.springframework.stereotype.Component;
+
+/*
+ * 이슈 계층 구조를 고정된 횟수의 쿼리로 조회
+ * - 하위 이슈 ID 조회 (issue_closure, 삭제된 이슈 제외) 1회 + 하위 이슈 엔티티 조회 1회 후 메모리에서 subIssues 구성
+ * - 삭제된 이슈의 하위 이슈는 상위 이슈와 연결되지 않으므로 결과에서 제외됨
+ * - 연관 이슈는 RelatedIssueGraph 에서 ID 를 구한 후 생성자, 상위 프로젝트, 상위 이슈와 함께 조회 1회
+ * */
+@Component
+public class IssueHierarchyLoader {
+
+  private final IssueClosureRepository issueClosureRepository;
+  private final JPAQueryFactory queryFactory;
+  private final IssueMapper issueMapper;
+  private final RelatedIssueGraph relatedIssueGraph;
+  private final DistributionSummary subtreeDepth;
+  private final DistributionSummary subtreeSize;
+
+  private final QIssue qIssue = QIssue.issue;
+  private final QIssue qParentIssue = new QIssue("qParentIssue");
+  private final QProject qProject = QProject.project;
+  private final QMember qCreator = new QMember("qCreator");
+  private final QMember qAssignee = new QMember("qAssignee");
+
+  public IssueHierarchyLoader(
+      IssueClosureRepository issueClosureRepository,
+      JPAQueryFactory queryFactory,
+      IssueMapper issueMapper,
+      RelatedIssueGraph relatedIssueGraph,
+      MeterRegistry meterRegistry) {
+    this.issueClosureRepository = issueClosureRepository;
+    this.queryFactory = queryFactory;
+    this.issueMapper = issueMapper;
+    this.relatedIssueGraph = relatedIssueGraph;
+    this.subtreeDepth =
+        DistributionSummary.builder("issue.subtree.depth")
+            .description("조회한 하위 이슈 트리의 깊이")
+            .register(meterRegistry);
+    this.subtreeSize =
+        DistributionSummary.builder("issue.subtree.size")
+            .description("조회한 하위 이슈 수")
+            .register(meterRegistry);
+  }
+
+  /**
+   * 상위 이슈 ID 별 직속 하위 이슈 목록을 반환한다. 하위 이슈의 subIssues 는 전체 깊이까지 구성된다.
+   *
+   * <p>하위 이슈가 없는 상위 이슈 ID 는 결과에 포함되지 않는다.
+   */
+  public Map<Long, List<Issue>> loadSubIssues(Collection<Long> parentIds) {
+    if (parentIds.isEmpty()) {
+      return Map.of();
+    }
+    List<Long> subIssueIds = issueClosureRepository.findSubIssueIds(parentIds);
+    if (subIssueIds.isEmpty()) {
+      return Map.of();
+    }
+
+    List<Issue> subIssues =
+        queryFactory
+            .selectFrom(qIssue)
+            .innerJoin(qIssue.creator, qCreator)
+            .leftJoin(qIssue.assignee, qAssignee)
+            .fetchJoin()
+            .where(qIssue.isDeleted.isFalse(), qIssue.id.in(subIssueIds))
+            .orderBy(qIssue.createdDate.asc(), qAssignee.name.asc())
+            .fetch();
+
+    Map<Long, List<Issue>> childrenByParentId = new HashMap<>();
+    for (Issue issue : subIssues) {
+      childrenByParentId
+          .computeIfAbsent(issue.getParentIssue().getId(), k -> new ArrayList<>())
+          .add(issue);
+    }
+    subIssues.forEach(
+        issue -> issueMapper.mapSubIssues(issue, 0, childrenByParentId.get(issue.getId())));
+    subtreeSize.record(subIssues.size());
+    subtreeDepth.record(depthOf(parentIds, childrenByParentId));
+
+    Map<Long, List<Issue>> result = new HashMap<>();
+    for (Long parentId : parentIds) {
+      List<Issue> children = childrenByParentId.get(parentId);
+      if (children != null) {
+        result.put(parentId, children);
+      }
+    }
+    return result;
+  }
+
+  // 상위 이슈로부터 가장 깊은 하위 이슈까지의 단계 수
+  private static int depthOf(
+      Collection<Long> parentIds, Map<Long, List<Issue>> childrenByParentId) {
+    int depth = 0;
+    Collection<Long> level = parentIds;
+    while (true) {
+      List<Long> next =
+          level.stream()
+              .map(childrenByParentId::get)
+              .filter(Objects::nonNull)
+              .flatMap(List::stream)
+              .map(Issue::getId)
+              .toList();
+      if (next.isEmpty()) {
+        return depth;
+      }
+      depth++;
+      level = next;
+    }
+  }
+
+  /** 이슈 ID 별로 삭제되지 않은 연관 이슈 목록(정방향, 역방향)을 반환한다. */
+  public Map<Long, List<Issue>> loadRelatedIssues(Collection<Long> ids) {
+    Map<Long, Set<Long>> neighborIdsById = new HashMap<>();
+    Set<Long> neighborIds = new HashSet<>();
+    for (Long id : ids) {
+      Set<Long> neighbors = relatedIssueGraph.getNeighborIds(id);
+      if (!neighbors.isEmpty()) {
+        neighborIdsById.put(id, neighbors);
+        neighborIds.addAll(neighbors);
+      }
+    }
+    if (neighborIds.isEmpty()) {
+      return Map.of();
+    }
+
+    Map<Long, Issue> issueById = new LinkedHashMap<>();
+    queryFactory
+        .selectFrom(qIssue)
+        .innerJoin(qIssue.creator, qCreator)
+        .fetchJoin()
+        .innerJoin(qIssue.parentProject, qProject)
+        .fetchJoin()
+        .leftJoin(qIssue.parentIssue, qParentIssue)
+        .fetchJoin()
+        .where(qIssue.isDeleted.isFalse(), qIssue.id.in(neighborIds))
+        .orderBy(qIssue.createdDate.asc())
+        .fetch()
+        .forEach(issue -> issueById.put(issue.getId(), issue));
+
+    Map<Long, List<Issue>> result = new HashMap<>();
+    neighborIdsById.forEach(
+        (id, neighbors) -> {
+          List<Issue> related =
+              issueById.values().stream()
+                  .filter(issue -> neighbors.contains(issue.getId()))
+                  .toList();
+          if (!related.isEmpty()) {
+            result.put(id, related);
+          }
+        });
+    return result;
+  }
+}
@@ -0,0 +1,116 @@
+package net.devgrr.interp.ia.api.work.issue.hierarchy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/*
+ * 연관 이슈 인접 목록
+ * - 연관 관계는 한쪽 이슈에만 저장되므로 정방향/역방향을 함께 유지하여 양방향 조회
+ * - 삭제 여부는 관리하지 않으므로 탐색 시 삭제되지 않은 이슈 조회 함수를 함께 전달
+ * */
+public class RelatedIssueEdges {
+
+  // 삭제 여부 확인 1회에 전달하는 최대 ID 수
+  static final int LIVE_CHECK_CHUNK_SIZE = 500;
+
+  private final Map<Long, Set<Long>> outgoing = new HashMap<>();
+  private final Map<Long, Set<Long>> incoming = new HashMap<>();
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  // 이슈의 정방향 연관 이슈 전체를 교체
+  public void setRelatedIssues(Long id, Collection<Long> relatedIds) {
+    lock.writeLock().lock();
+    try {
+      Set<Long> before = outgoing.remove(id);
+      if (before != null) {
+        for (Long relatedId : before) {
+          Set<Long> sources = incoming.get(relatedId);
+          sources.remove(id);
+          if (sources.isEmpty()) {
+            incoming.remove(relatedId);
+          }
+        }
+      }
+      if (relatedIds != null && !relatedIds.isEmpty()) {
+        Set<Long> targets = new HashSet<>(relatedIds);
+        outgoing.put(id, targets);
+        for (Long relatedId : targets) {
+          incoming.computeIfAbsent(relatedId, k -> new HashSet<>()).add(id);
+        }
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /** 주어진 이슈들의 정방향, 역방향 연관 이슈 ID 를 모두 반환한다. (주어진 이슈 자신 제외) */
+  public Set<Long> getNeighborIds(Collection<Long> ids) {
+    lock.readLock().lock();
+    try {
+      Set<Long> result = new HashSet<>();
+      for (Long id : ids) {
+        result.addAll(outgoing.getOrDefault(id, Set.of()));
+        result.addAll(incoming.getOrDefault(id, Set.of()));
+      }
+      ids.forEach(result::remove);
+      return result;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public Map<Long, Integer> getNeighborhood(
+      Long id, int depth, int limit, Function<Collection<Long>, Set<Long>> liveIdsOf) {
+    return neighborhood(id, depth, limit, this::getNeighborIds, liveIdsOf);
+  }
+
+  /**
+   * 연관 관계를 depth 단계까지 따라간 이슈 ID 와 거리를 거리 순으로 반환한다. (자기 자신 제외)
+   *
+   * <p>단계별로 새로 방문한 이슈 중 liveIdsOf 가 반환한 (삭제되지 않은) 이슈만 결과에 넣고 다음 단계로 탐색하며,
+   * 같은 단계 안에서는 ID 순으로 처리한다. limit 개에 도달하면 탐색을 중단한다.
+   */
+  static Map<Long, Integer> neighborhood(
+      Long id,
+      int depth,
+      int limit,
+      Function<Collection<Long>, Set<Long>> neighborsOf,
+      Function<Collection<Long>, Set<Long>> liveIdsOf) {
+    Map<Long, Integer> distances = new LinkedHashMap<>();
+    Set<Long> visited = new HashSet<>();
+    visited.add(id);
+    List<Long> frontier = List.of(id);
+
+    for (int level = 1; level <= depth && !frontier.isEmpty(); level++) {
+      List<Long> candidates =
+          neighborsOf.apply(frontier).stream().filter(visited::add).sorted().toList();
+      List<Long> next = new ArrayList<>();
+      for (int from = 0; from < candidates.size(); from += LIVE_CHECK_CHUNK_SIZE) {
+        List<Long> chunk =
+            candidates.subList(from, Math.min(from + LIVE_CHECK_CHUNK_SIZE, candidates.size()));
+        Set<Long> liveIds = liveIdsOf.apply(chunk);
+        for (Long candidateId : chunk) {
+          if (!liveIds.contains(candidateId)) {
+            continue;
+          }
+          distances.put(candidateId, level);
+          if (distances.size() >= limit) {
+            return distances;
+          }
+          next.add(candidateId);
+        }
+      }
+      frontier = next;
+    }
+    return distances;
+  }
+}
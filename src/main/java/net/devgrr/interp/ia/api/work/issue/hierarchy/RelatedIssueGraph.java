@@ -0,0 +1,123 @@
+package net.devgrr.interp.ia.api.work.issue.hierarchy;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.devgrr.interp.ia.api.util.RebuildableIndex;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/*
+ * 연관 이슈 인접 목록 (issue_related_issues 의 메모리 사본, RelatedIssueEdges 참고)
+ * - 애플리케이션 시작 시, 이후 search.index.rebuild-cron 주기로 전체 적재 후 이슈 생성, 연관 이슈 수정 커밋 시점에 갱신
+ *   (다른 인스턴스에서 변경된 내용은 다음 전체 적재 때 반영)
+ * - 전체 적재 중 갱신 처리, 교체는 RebuildableIndex 참고
+ * - 첫 적재 전에는 issue_related_issues 를 직접 조회
+ * - 탐색 시 삭제된 이슈는 결과에서 제외하고 더 따라가지 않음
+ * */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class RelatedIssueGraph {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private final RebuildableIndex<RelatedIssueEdges> edges = new RebuildableIndex<>();
+
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(cron = "${search.index.rebuild-cron:0 0 * * * *}")
+  public void rebuild() {
+    if (!edges.rebuild(this::load)) {
+      log.info("Related issue graph is already being rebuilt, skipped.");
+    }
+  }
+
+  private RelatedIssueEdges load() {
+    Map<Long, Set<Long>> relatedIdsById = new HashMap<>();
+    jdbcTemplate.query(
+        "SELECT issue_id, related_issues_id FROM issue_related_issues",
+        rs -> {
+          relatedIdsById
+              .computeIfAbsent(rs.getLong("issue_id"), k -> new HashSet<>())
+              .add(rs.getLong("related_issues_id"));
+        });
+
+    RelatedIssueEdges loaded = new RelatedIssueEdges();
+    relatedIdsById.forEach(loaded::setRelatedIssues);
+    log.info("Loaded related issue links of {} issues.", relatedIdsById.size());
+    return loaded;
+  }
+
+  // 이슈의 정방향 연관 이슈 전체를 교체
+  public void setRelatedIssues(Long id, Collection<Long> relatedIds) {
+    edges.update(loaded -> loaded.setRelatedIssues(id, relatedIds));
+  }
+
+  /** 정방향, 역방향 연관 이슈 ID 를 모두 반환한다. (삭제된 이슈 포함) */
+  public Set<Long> getNeighborIds(Long id) {
+    return neighborIdsOf(List.of(id));
+  }
+
+  /**
+   * 연관 관계를 depth 단계까지 따라간 삭제되지 않은 이슈 ID 와 거리를 거리 순으로 반환한다. (자기 자신 제외)
+   *
+   * <p>limit 개에 도달하면 탐색을 중단한다.
+   */
+  public Map<Long, Integer> getNeighborhood(Long id, int depth, int limit) {
+    return RelatedIssueEdges.neighborhood(id, depth, limit, this::neighborIdsOf, this::liveIdsOf);
+  }
+
+  private Set<Long> neighborIdsOf(Collection<Long> ids) {
+    RelatedIssueEdges loaded = edges.get();
+    if (loaded != null) {
+      return loaded.getNeighborIds(ids);
+    }
+
+    String in = placeholders(ids.size());
+    Object[] args = new Object[ids.size() * 2];
+    int i = 0;
+    for (int repeat = 0; repeat < 2; repeat++) {
+      for (Long id : ids) {
+        args[i++] = id;
+      }
+    }
+    Set<Long> result = new HashSet<>();
+    jdbcTemplate.query(
+        "SELECT issue_id, related_issues_id FROM issue_related_issues"
+            + " WHERE issue_id IN ("
+            + in
+            + ") OR related_issues_id IN ("
+            + in
+            + ")",
+        rs -> {
+          result.add(rs.getLong("issue_id"));
+          result.add(rs.getLong("related_issues_id"));
+        },
+        args);
+    ids.forEach(result::remove);
+    return result;
+  }
+
+  private Set<Long> liveIdsOf(Collection<Long> ids) {
+    return new HashSet<>(
+        jdbcTemplate.queryForList(
+            "SELECT id FROM issue WHERE is_deleted = false AND id IN ("
+                + placeholders(ids.size())
+                + ")",
+            Long.class,
+            ids.toArray()));
+  }
+
+  private static String placeholders(int count) {
+    return String.join(",", Collections.nCopies(count, "?"));
+  }
+}
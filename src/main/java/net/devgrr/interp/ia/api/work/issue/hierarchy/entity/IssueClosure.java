@@ -0,0 +1,40 @@
+package net.devgrr.interp.ia.api.work.issue.hierarchy.entity;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@Entity
+@IdClass(IssueClosureId.class)
+@Table(
+    name = "issue_closure",
+    indexes = @Index(name = "idx_issue_closure_descendant", columnList = "descendant_id, depth"))
+@Schema(description = "이슈 계층 클로저 엔티티 (상위-하위 이슈 전체 경로)")
+@AllArgsConstructor
+@NoArgsConstructor
+public class IssueClosure {
+
+  @Id
+  @Column(name = "ancestor_id")
+  @Schema(description = "상위 이슈 ID")
+  private Long ancestorId;
+
+  @Id
+  @Column(name = "descendant_id")
+  @Schema(description = "하위 이슈 ID")
+  private Long descendantId;
+
+  @Column(nullable = false)
+  @Schema(description = "상위 이슈로부터의 깊이 (자기 자신: 0)")
+  private Integer depth;
+}
@@ -0,0 +1,14 @@
+package net.devgrr.interp.ia.api.work.issue.hierarchy.entity;
+
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+@EqualsAndHashCode
+@AllArgsConstructor
+@NoArgsConstructor
+public class IssueClosureId implements Serializable {
+  private Long ancestorId;
+  private Long descendantId;
+}
@@ -26,6 +26,8 @@ import net.devgrr.interp.ia.api.config.swagger.annotation.SwaggerBody;
 import net.devgrr.interp.ia.api.work.project.dto.ProjectRequest;
 import net.devgrr.interp.ia.api.work.project.dto.ProjectResponse;
 import net.devgrr.interp.ia.api.work.project.dto.ProjectValidationGroup;
+import net.devgrr.interp.ia.api.work.project.stats.dto.ProjectStatsResponse;
+import net.devgrr.interp.ia.api.work.search.dto.TagCountResponse;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -113,7 +115,10 @@ public class ProjectController {
           @Parameter(description = "종료일 종료 (yyyy-MM-dd)")
           @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
           LocalDate endDateTo,
-      @RequestParam(value = "tag", required = false) @Parameter(description = "태그") Set<String> tag)
+      @RequestParam(value = "tag", required = false) @Parameter(description = "태그") Set<String> tag,
+      @RequestParam(value = "tagMatchAll", required = false)
+          @Parameter(description = "태그 전체 일치 여부 (기본값: false, 하나 이상 일치)")
+          Boolean tagMatchAll)
       throws BaseException {
     return projectService
         .getProjectsByKeywords(
@@ -133,12 +138,19 @@ public class ProjectController {
             startDateTo,
             endDateFrom,
             endDateTo,
-            tag)
+            tag,
+            tagMatchAll)
         .stream()
         .map(projectMapper::toResponse)
         .collect(Collectors.toList());
   }
 
+  @Operation(description = "태그별 프로젝트 건수를 조회한다. (삭제된 프로젝트 제외, 건수 내림차순)")
+  @GetMapping("/tags")
+  public List<TagCountResponse> getProjectTagCounts() {
+    return projectService.getProjectTagCounts();
+  }
+
   @Operation(description = "프로젝트를 조회한다. 프로젝트의 하위 이슈는 최상위 이슈만 조회한다.")
   @GetMapping("/{id}")
   public ProjectResponse getProjectsById(
@@ -146,6 +158,13 @@ public class ProjectController {
     return projectMapper.toResponse(projectService.getProjectsById(id));
   }
 
+  @Operation(description = "프로젝트의 상태, 중요도, 유형별 이슈 수를 조회한다. (삭제된 이슈 제외)")
+  @GetMapping("/{id}/stats")
+  public ProjectStatsResponse getProjectStats(
+      @PathVariable("id") @Parameter(description = "프로젝트 ID") Long id) throws BaseException {
+    return projectService.getProjectStats(id);
+  }
+
   @Operation(description = "프로젝트를 등록한다.")
   @JsonView(ProjectValidationGroup.postGroup.class)
   @PostMapping
@@ -1,6 +1,11 @@
 package net.devgrr.interp.ia.api.work.project;
 
+import com.querydsl.core.types.ExpressionUtils;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.ServletOutputStream;
 import java.io.IOException;
 import java.time.LocalDate;
@@ -11,6 +16,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import net.devgrr.interp.ia.api.config.exception.BaseException;
 import net.devgrr.interp.ia.api.config.exception.ErrorCode;
@@ -18,10 +24,12 @@ import net.devgrr.interp.ia.api.config.issue.IssueCategory;
 import net.devgrr.interp.ia.api.config.issue.IssueStatus;
 import net.devgrr.interp.ia.api.config.issue.Priority;
 import net.devgrr.interp.ia.api.config.mapStruct.ProjectMapper;
+import net.devgrr.interp.ia.api.config.metrics.MetricsConfig;
 import net.devgrr.interp.ia.api.member.MemberService;
 import net.devgrr.interp.ia.api.member.entity.Member;
 import net.devgrr.interp.ia.api.member.entity.QMember;
 import net.devgrr.interp.ia.api.util.DateUtil;
+import net.devgrr.interp.ia.api.util.TransactionUtil;
 import net.devgrr.interp.ia.api.work.history.HistoryService;
 import net.devgrr.interp.ia.api.work.issue.entity.QIssue;
 import net.devgrr.interp.ia.api.work.project.dto.ProjectRequest;
@@ -29,11 +37,17 @@ import net.devgrr.interp.ia.api.work.project.dto.ProjectResponse;
 import net.devgrr.interp.ia.api.work.project.entity.Project;
 import net.devgrr.interp.ia.api.work.project.entity.QProject;
 import net.devgrr.interp.ia.api.work.project.file.ProjectFileService;
+import net.devgrr.interp.ia.api.work.project.stats.ProjectStatService;
+import net.devgrr.interp.ia.api.work.project.stats.dto.ProjectStatsResponse;
+import net.devgrr.interp.ia.api.work.search.TagSearchIndex;
+import net.devgrr.interp.ia.api.work.search.TitleSearchIndex;
+import net.devgrr.interp.ia.api.work.search.dto.TagCountResponse;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+@Timed(MetricsConfig.SERVICE_TIMER)
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 @Service
@@ -45,6 +59,10 @@ public class ProjectService {
   private final ProjectFileService projectFileService;
   private final MemberService memberService;
   private final HistoryService historyService;
+  private final TitleSearchIndex titleSearchIndex;
+  private final TagSearchIndex tagSearchIndex;
+  private final ProjectStatService projectStatService;
+  private final MeterRegistry meterRegistry;
 
   private final QProject qProject = QProject.project;
   private final QMember qMember = QMember.member;
@@ -67,8 +85,25 @@ public class ProjectService {
       LocalDate startDateTo,
       LocalDate endDateFrom,
       LocalDate endDateTo,
-      Set<String> tag)
+      Set<String> tag,
+      Boolean tagMatchAll)
       throws BaseException {
+    Set<Long> candidateIds = titleSearchIndex.findProjectCandidates(title, subTitle);
+    Predicate tagCondition = null;
+    if (tag != null && !tag.isEmpty()) {
+      boolean matchAll = Boolean.TRUE.equals(tagMatchAll);
+      // 제목 후보가 있으면 그 범위 내에서 태그 확인 후 하나의 IN 조건으로 전달
+      Set<Long> tagged = tagSearchIndex.findProjectCandidates(tag, matchAll, candidateIds);
+      if (tagged != null) {
+        candidateIds = tagged;
+      } else {
+        tagCondition =
+            matchAll
+                ? ExpressionUtils.allOf(
+                    tag.stream().map(t -> (Predicate) qProject.tag.contains(t)).toList())
+                : qProject.tag.any().in(tag);
+      }
+    }
     try {
       return queryFactory
           .selectFrom(qProject)
@@ -77,6 +112,11 @@ public class ProjectService {
           .fetchJoin()
           .where(
               qProject.isDeleted.isFalse(),
+              candidateIds != null
+                  ? (candidateIds.isEmpty()
+                      ? Expressions.FALSE.isTrue()
+                      : qProject.id.in(candidateIds))
+                  : null,
               status != null ? qProject.status.eq(status) : null,
               priority != null ? qProject.priority.eq(priority) : null,
               StringUtils.hasText(title) ? qProject.title.like("%" + title + "%") : null,
@@ -102,7 +142,7 @@ public class ProjectService {
               DateUtil.isValidDateRange(endDateFrom, endDateTo)
                   ? qProject.endDate.between(endDateFrom, endDateTo)
                   : null,
-              tag != null && !tag.isEmpty() ? qProject.tag.any().in(tag) : null,
+              tagCondition,
               qIssue.parentIssue.isNull())
           .orderBy(
               qProject.createdDate.asc(), qProject.creator.name.asc(), qIssue.createdDate.asc())
@@ -113,6 +153,10 @@ public class ProjectService {
     }
   }
 
+  public List<TagCountResponse> getProjectTagCounts() {
+    return tagSearchIndex.countProjectTags();
+  }
+
   public Project getProjectsById(Long id) throws BaseException {
     Project project =
         queryFactory
@@ -129,6 +173,16 @@ public class ProjectService {
     return project;
   }
 
+  public Map<Long, Project> getProjectsByIds(Set<Long> ids) throws BaseException {
+    Map<Long, Project> projects =
+        projectRepository.findAllByIdInAndIsDeletedFalse(List.copyOf(ids)).stream()
+            .collect(Collectors.toMap(Project::getId, project -> project));
+    if (projects.size() != ids.size()) {
+      throw new BaseException(ErrorCode.INVALID_INPUT_VALUE, "존재하지 않는 프로젝트 ID가 있습니다.");
+    }
+    return projects;
+  }
+
   @Transactional
   public Project setProjects(ProjectRequest req, String username) throws BaseException {
     try {
@@ -137,7 +191,17 @@ public class ProjectService {
       if (req.assigneeId() != null && !req.assigneeId().isEmpty()) {
         assignee = memberService.getUsersByIds(req.assigneeId());
       }
-      return projectRepository.save(projectMapper.toProject(req, creator, assignee));
+      Project savedProject =
+          projectRepository.save(projectMapper.toProject(req, creator, assignee));
+      Set<String> tag =
+          savedProject.getTag() != null ? Set.copyOf(savedProject.getTag()) : Set.of();
+      TransactionUtil.afterCommit(
+          () -> {
+            titleSearchIndex.indexProject(
+                savedProject.getId(), savedProject.getTitle(), savedProject.getSubTitle());
+            tagSearchIndex.indexProject(savedProject.getId(), tag);
+          });
+      return savedProject;
     } catch (Exception e) {
       throw new BaseException(ErrorCode.INTERNAL_SERVER_ERROR, e.getMessage());
     }
@@ -231,6 +295,16 @@ public class ProjectService {
 
       historyService.setHistory(IssueCategory.PROJECT, id, beforeValue, afterValue, key, modifier);
 
+      if (key.equals("title") || key.equals("subTitle")) {
+        String title = originProject.getTitle();
+        String subTitle = originProject.getSubTitle();
+        TransactionUtil.afterCommit(() -> titleSearchIndex.indexProject(id, title, subTitle));
+      } else if (key.equals("tag")) {
+        Set<String> tag =
+            originProject.getTag() != null ? Set.copyOf(originProject.getTag()) : Set.of();
+        TransactionUtil.afterCommit(() -> tagSearchIndex.indexProject(id, tag));
+      }
+
     } catch (Exception e) {
       throw new BaseException(ErrorCode.INTERNAL_SERVER_ERROR, e.getMessage());
     }
@@ -263,6 +337,8 @@ public class ProjectService {
           .where(qIssue.parentProject.id.eq(id))
           .execute();
       projectMapper.putProjectDeletedFlag(project, flag);
+      projectStatService.rebuild(id);
+      TransactionUtil.afterCommit(() -> tagSearchIndex.setProjectDeleted(id, flag));
     } catch (Exception e) {
       throw new BaseException(ErrorCode.INTERNAL_SERVER_ERROR, e.getMessage());
     }
@@ -272,6 +348,13 @@ public class ProjectService {
     return projectRepository.existsById(id);
   }
 
+  public ProjectStatsResponse getProjectStats(Long id) throws BaseException {
+    if (!projectRepository.existsById(id)) {
+      throw new BaseException(ErrorCode.INVALID_INPUT_VALUE, "존재하지 않는 프로젝트입니다. (id: " + id + ")");
+    }
+    return projectStatService.getStats(id);
+  }
+
   public void exportProjects(String format, List<Long> ids, ServletOutputStream outputStream)
       throws IOException {
 
@@ -290,6 +373,9 @@ public class ProjectService {
       } else if ("xlsx".equals(format)) {
         projectFileService.exportProjectsToXlsx(issues, outputStream);
       }
+      meterRegistry
+          .counter(MetricsConfig.EXPORT_ROWS_COUNTER, "type", "project", "format", format)
+          .increment(issues.size());
     } catch (IOException e) {
       throw new IOException(e.getMessage(), e);
     }
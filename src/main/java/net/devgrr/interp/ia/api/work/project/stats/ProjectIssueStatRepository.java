@@ -0,0 +1,12 @@
+package net.devgrr.interp.ia.api.work.project.stats;
+
+import java.util.List;
+import net.devgrr.interp.ia.api.work.project.stats.entity.ProjectIssueStat;
+import net.devgrr.interp.ia.api.work.project.stats.entity.ProjectIssueStatId;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ProjectIssueStatRepository
+    extends JpaRepository<ProjectIssueStat, ProjectIssueStatId> {
+
+  List<ProjectIssueStat> findAllByProjectId(Long projectId);
+}
@@ -0,0 +1,52 @@
+package net.devgrr.interp.ia.api.work.project.stats;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import net.devgrr.interp.ia.api.config.issue.IssueStatus;
+import net.devgrr.interp.ia.api.config.issue.IssueType;
+import net.devgrr.interp.ia.api.config.issue.Priority;
+
+/*
+ * 프로젝트 이슈 집계 변경분
+ * - 한 요청에서 발생한 증감을 모아 ProjectStatService.apply 로 한 번에 반영
+ * */
+public class ProjectStatDelta {
+
+  public static final String NONE = "NONE";
+
+  public record Key(Long projectId, StatDimension dimension, String statValue) {}
+
+  private final Map<Key, Long> counts = new HashMap<>();
+
+  // sign: 1 (추가/복구), -1 (삭제)
+  public ProjectStatDelta add(
+      Long projectId, IssueType type, IssueStatus status, Priority priority, int sign) {
+    add(projectId, StatDimension.TYPE, type, sign);
+    add(projectId, StatDimension.STATUS, status, sign);
+    add(projectId, StatDimension.PRIORITY, priority, sign);
+    return this;
+  }
+
+  public ProjectStatDelta change(
+      Long projectId, StatDimension dimension, Enum<?> before, Enum<?> after) {
+    if (!Objects.equals(before, after)) {
+      add(projectId, dimension, before, -1);
+      add(projectId, dimension, after, 1);
+    }
+    return this;
+  }
+
+  public boolean isEmpty() {
+    return counts.values().stream().allMatch(count -> count == 0);
+  }
+
+  public Map<Key, Long> getCounts() {
+    return counts;
+  }
+
+  private void add(Long projectId, StatDimension dimension, Enum<?> value, int sign) {
+    counts.merge(
+        new Key(projectId, dimension, value != null ? value.name() : NONE), (long) sign, Long::sum);
+  }
+}
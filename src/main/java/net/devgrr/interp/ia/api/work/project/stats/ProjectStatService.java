@@ -0,0 +1,122 @@
+package net.devgrr.interp.ia.api.work.project.stats;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.devgrr.interp.ia.api.work.project.stats.dto.ProjectStatsResponse;
+import net.devgrr.interp.ia.api.work.project.stats.entity.ProjectIssueStat;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/*
+ * project_issue_stat 테이블 관리
+ * - 이슈 생성, 상태/중요도/유형 변경, 삭제/복구 시 같은 트랜잭션에서 증감 반영
+ * - 조회 시 issue 테이블을 읽지 않고 프로젝트 ID 로 집계 행만 조회
+ * */
+@Slf4j
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@Service
+public class ProjectStatService {
+
+  private final ProjectIssueStatRepository projectIssueStatRepository;
+  private final JdbcTemplate jdbcTemplate;
+
+  private static final String UPSERT_STAT =
+      "INSERT INTO project_issue_stat (project_id, dimension, stat_value, issue_count)"
+          + " VALUES (?, ?, ?, ?)"
+          + " ON DUPLICATE KEY UPDATE issue_count = issue_count + VALUES(issue_count)";
+
+  private static final String REBUILD_STAT =
+      """
+      INSERT INTO project_issue_stat (project_id, dimension, stat_value, issue_count)
+      SELECT parent_project_id, '%1$s', COALESCE(%2$s, 'NONE'), COUNT(*) FROM issue
+      WHERE is_deleted = false %3$s
+      GROUP BY parent_project_id, COALESCE(%2$s, 'NONE')
+      """;
+
+  public ProjectStatsResponse getStats(Long projectId) {
+    Map<StatDimension, Map<String, Long>> stats = new LinkedHashMap<>();
+    for (StatDimension dimension : StatDimension.values()) {
+      stats.put(dimension, new LinkedHashMap<>());
+    }
+    for (ProjectIssueStat stat : projectIssueStatRepository.findAllByProjectId(projectId)) {
+      if (stat.getIssueCount() > 0) {
+        stats.get(stat.getDimension()).put(stat.getStatValue(), stat.getIssueCount());
+      }
+    }
+    long total =
+        stats.get(StatDimension.TYPE).values().stream().mapToLong(Long::longValue).sum();
+    return new ProjectStatsResponse(
+        projectId,
+        total,
+        stats.get(StatDimension.STATUS),
+        stats.get(StatDimension.PRIORITY),
+        stats.get(StatDimension.TYPE));
+  }
+
+  @Transactional
+  public void apply(ProjectStatDelta delta) {
+    List<Map.Entry<ProjectStatDelta.Key, Long>> entries =
+        delta.getCounts().entrySet().stream().filter(entry -> entry.getValue() != 0).toList();
+    if (entries.isEmpty()) {
+      return;
+    }
+    jdbcTemplate.batchUpdate(
+        UPSERT_STAT,
+        entries,
+        entries.size(),
+        (ps, entry) -> {
+          ps.setLong(1, entry.getKey().projectId());
+          ps.setString(2, entry.getKey().dimension().name());
+          ps.setString(3, entry.getKey().statValue());
+          ps.setLong(4, entry.getValue());
+        });
+  }
+
+  // 집계 테이블 도입 이전 데이터가 있는 경우 전체 재구성
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional
+  public void rebuildIfEmpty() {
+    if (projectIssueStatRepository.count() > 0) {
+      return;
+    }
+    Long issueCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM issue", Long.class);
+    if (issueCount != null && issueCount > 0) {
+      log.info("Rebuilding project_issue_stat for {} issues.", issueCount);
+      rebuild();
+    }
+  }
+
+  @Transactional
+  public void rebuild() {
+    jdbcTemplate.update("DELETE FROM project_issue_stat");
+    for (StatDimension dimension : StatDimension.values()) {
+      jdbcTemplate.update(REBUILD_STAT.formatted(dimension.name(), column(dimension), ""));
+    }
+  }
+
+  // 프로젝트 삭제/복구 등 하위 이슈 전체가 변경된 경우
+  @Transactional
+  public void rebuild(Long projectId) {
+    jdbcTemplate.update("DELETE FROM project_issue_stat WHERE project_id = ?", projectId);
+    for (StatDimension dimension : StatDimension.values()) {
+      jdbcTemplate.update(
+          REBUILD_STAT.formatted(dimension.name(), column(dimension), "AND parent_project_id = ?"),
+          projectId);
+    }
+  }
+
+  private String column(StatDimension dimension) {
+    return switch (dimension) {
+      case STATUS -> "status";
+      case PRIORITY -> "priority";
+      case TYPE -> "type";
+    };
+  }
+}
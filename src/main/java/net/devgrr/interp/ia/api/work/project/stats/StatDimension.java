@@ -0,0 +1,7 @@
+package net.devgrr.interp.ia.api.work.project.stats;
+
+public enum StatDimension {
+  STATUS,
+  PRIORITY,
+  TYPE
+}
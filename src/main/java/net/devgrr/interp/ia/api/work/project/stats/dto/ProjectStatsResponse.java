@@ -0,0 +1,12 @@
+package net.devgrr.interp.ia.api.work.project.stats.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.Map;
+
+@Schema(description = "프로젝트 이슈 집계 응답 객체 (삭제되지 않은 이슈 기준)")
+public record ProjectStatsResponse(
+    @Schema(description = "프로젝트 ID") Long projectId,
+    @Schema(description = "전체 이슈 수") Long total,
+    @Schema(description = "상태별 이슈 수") Map<String, Long> status,
+    @Schema(description = "중요도별 이슈 수") Map<String, Long> priority,
+    @Schema(description = "유형별 이슈 수") Map<String, Long> type) {}
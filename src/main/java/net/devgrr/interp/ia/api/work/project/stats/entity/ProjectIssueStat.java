@@ -0,0 +1,46 @@
+package net.devgrr.interp.ia.api.work.project.stats.entity;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import net.devgrr.interp.ia.api.work.project.stats.StatDimension;
+
+@Getter
+@Builder
+@Entity
+@IdClass(ProjectIssueStatId.class)
+@Table(name = "project_issue_stat")
+@Schema(description = "프로젝트별 이슈 집계 엔티티 (삭제되지 않은 이슈 기준)")
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProjectIssueStat {
+
+  @Id
+  @Column(name = "project_id")
+  @Schema(description = "프로젝트 ID")
+  private Long projectId;
+
+  @Id
+  @Enumerated(EnumType.STRING)
+  @Column(name = "dimension", length = 20)
+  @Schema(description = "집계 기준 (STATUS, PRIORITY, TYPE)")
+  private StatDimension dimension;
+
+  @Id
+  @Column(name = "stat_value", length = 50)
+  @Schema(description = "집계 값 (값이 없는 경우 NONE)")
+  private String statValue;
+
+  @Column(nullable = false)
+  @Schema(description = "이슈 수")
+  private Long issueCount;
+}
@@ -0,0 +1,16 @@
+package net.devgrr.interp.ia.api.work.project.stats.entity;
+
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import net.devgrr.interp.ia.api.work.project.stats.StatDimension;
+
+@EqualsAndHashCode
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProjectIssueStatId implements Serializable {
+  private Long projectId;
+  private StatDimension dimension;
+  private String statValue;
+}
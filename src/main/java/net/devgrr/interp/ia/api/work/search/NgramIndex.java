@@ -0,0 +1,144 @@
+package net.devgrr.interp.ia.api.work.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+
+/*
+ * 문자열 필드 하나에 대한 bigram 역색인
+ * - 공백 단위 토큰화가 어려운 한글 검색을 위해 공백을 제외한 연속 2글자 단위로 색인
+ * - 검색어의 모든 bigram 을 포함하는 문서 ID 비트맵(후보)을 반환하며, 실제 포함 여부는 DB 조건으로 확인
+ * - bigram 은 등장 순서대로 int 번호를 부여하고, posting 은 번호별 비트맵, 문서별로는 번호 배열만 보관
+ * - int 범위를 벗어나는 문서 ID 는 색인하지 않으며, 그런 문서가 하나라도 있으면 후보를 좁히지 않음
+ * */
+public class NgramIndex {
+
+  private static final int GRAM_SIZE = 2;
+
+  private final Map<String, Integer> gramIds = new HashMap<>();
+  private final List<RoaringBitmap> postings = new ArrayList<>();
+  private final Map<Integer, int[]> gramIdsByDoc = new HashMap<>();
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private volatile boolean complete = true;
+
+  public void put(Long id, String text) {
+    if (!isIndexable(id)) {
+      complete = false;
+      return;
+    }
+    int docId = id.intValue();
+    Set<String> grams = grams(text);
+    lock.writeLock().lock();
+    try {
+      removeInternal(docId);
+      if (grams.isEmpty()) {
+        return;
+      }
+      int[] ids = new int[grams.size()];
+      int i = 0;
+      for (String gram : grams) {
+        int gramId =
+            gramIds.computeIfAbsent(
+                gram,
+                k -> {
+                  postings.add(new RoaringBitmap());
+                  return postings.size() - 1;
+                });
+        postings.get(gramId).add(docId);
+        ids[i++] = gramId;
+      }
+      gramIdsByDoc.put(docId, ids);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void remove(Long id) {
+    if (!isIndexable(id)) {
+      return;
+    }
+    lock.writeLock().lock();
+    try {
+      removeInternal(id.intValue());
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 검색어의 모든 bigram 을 포함하는 문서 ID 를 반환한다.
+   *
+   * <p>검색어가 2글자 미만이거나 색인하지 못한 문서가 있어 후보를 좁힐 수 없는 경우 null 을 반환한다.
+   */
+  public RoaringBitmap search(String query) {
+    Set<String> grams = grams(query);
+    if (grams.isEmpty() || !complete) {
+      return null;
+    }
+    lock.readLock().lock();
+    try {
+      RoaringBitmap[] operands = new RoaringBitmap[grams.size()];
+      int i = 0;
+      for (String gram : grams) {
+        Integer gramId = gramIds.get(gram);
+        if (gramId == null || postings.get(gramId).isEmpty()) {
+          return new RoaringBitmap();
+        }
+        operands[i++] = postings.get(gramId);
+      }
+      // 가장 작은 비트맵부터 교집합
+      Arrays.sort(operands, Comparator.comparingLong(RoaringBitmap::getLongCardinality));
+      return FastAggregation.and(operands);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return gramIdsByDoc.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private void removeInternal(int docId) {
+    int[] ids = gramIdsByDoc.remove(docId);
+    if (ids == null) {
+      return;
+    }
+    for (int gramId : ids) {
+      postings.get(gramId).remove(docId);
+    }
+  }
+
+  private static boolean isIndexable(Long id) {
+    return id >= 0 && id <= Integer.MAX_VALUE;
+  }
+
+  static Set<String> grams(String text) {
+    if (text == null) {
+      return Set.of();
+    }
+    String normalized = text.toLowerCase(Locale.ROOT);
+    Set<String> grams = new LinkedHashSet<>();
+    // 공백을 경계로 나눈 각 구간에서만 bigram 생성
+    for (String token : normalized.split("\\s+")) {
+      for (int i = 0; i + GRAM_SIZE <= token.length(); i++) {
+        grams.add(token.substring(i, i + GRAM_SIZE));
+      }
+    }
+    return grams;
+  }
+}
@@ -0,0 +1,161 @@
+package net.devgrr.interp.ia.api.work.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+
+/*
+ * 태그 -> 문서 ID 비트맵 색인
+ * - AND/OR 태그 조건은 비트맵 연산, 태그별 건수는 범위 비트맵과의 교집합 카디널리티로 계산
+ * - 그룹(이슈의 상위 프로젝트 등) 별 비트맵과 제외(삭제) 비트맵을 함께 관리
+ * - int 범위를 벗어나는 문서 ID 는 색인하지 않으며, 그런 문서가 하나라도 있으면 isComplete() 가 false
+ *   (호출한 쪽에서 DB 조건 사용)
+ * */
+public class TagBitmapIndex {
+
+  private final Map<String, RoaringBitmap> bitmaps = new HashMap<>();
+  private final Map<Integer, Set<String>> tagsById = new HashMap<>();
+  private final Map<Long, RoaringBitmap> groups = new HashMap<>();
+  private final RoaringBitmap all = new RoaringBitmap();
+  private final RoaringBitmap excluded = new RoaringBitmap();
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private volatile boolean complete = true;
+
+  public void put(Long id, Long groupId, Collection<String> tags) {
+    if (!isIndexable(id)) {
+      complete = false;
+      return;
+    }
+    int docId = id.intValue();
+    lock.writeLock().lock();
+    try {
+      Set<String> before = tagsById.remove(docId);
+      if (before != null) {
+        for (String tag : before) {
+          RoaringBitmap bitmap = bitmaps.get(tag);
+          bitmap.remove(docId);
+          if (bitmap.isEmpty()) {
+            bitmaps.remove(tag);
+          }
+        }
+      }
+      if (tags != null && !tags.isEmpty()) {
+        Set<String> after = new HashSet<>(tags);
+        for (String tag : after) {
+          bitmaps.computeIfAbsent(tag, k -> new RoaringBitmap()).add(docId);
+        }
+        tagsById.put(docId, after);
+      }
+      if (groupId != null) {
+        groups.computeIfAbsent(groupId, k -> new RoaringBitmap()).add(docId);
+      }
+      all.add(docId);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void setExcluded(Collection<Long> ids, boolean flag) {
+    lock.writeLock().lock();
+    try {
+      for (Long id : ids) {
+        if (!isIndexable(id)) {
+          continue;
+        }
+        if (flag) {
+          excluded.add(id.intValue());
+        } else {
+          excluded.remove(id.intValue());
+        }
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void setGroupExcluded(Long groupId, boolean flag) {
+    lock.writeLock().lock();
+    try {
+      RoaringBitmap group = groups.get(groupId);
+      if (group == null) {
+        return;
+      }
+      if (flag) {
+        excluded.or(group);
+      } else {
+        excluded.andNot(group);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public boolean isComplete() {
+    return complete;
+  }
+
+  /** 태그를 모두(matchAll) 또는 하나 이상 가진 제외되지 않은 문서 ID 비트맵을 반환한다. */
+  public RoaringBitmap match(Collection<String> tags, boolean matchAll) {
+    lock.readLock().lock();
+    try {
+      List<RoaringBitmap> matched = new ArrayList<>(tags.size());
+      for (String tag : tags) {
+        RoaringBitmap bitmap = bitmaps.get(tag);
+        if (bitmap != null) {
+          matched.add(bitmap);
+        } else if (matchAll) {
+          return new RoaringBitmap();
+        }
+      }
+      if (matched.isEmpty()) {
+        return new RoaringBitmap();
+      }
+      RoaringBitmap[] operands = matched.toArray(new RoaringBitmap[0]);
+      RoaringBitmap result =
+          matchAll ? FastAggregation.and(operands) : FastAggregation.or(operands);
+      return RoaringBitmap.andNot(result, excluded);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /** 그룹(null 이면 전체) 내 제외되지 않은 문서의 태그별 건수를 건수 내림차순으로 반환한다. */
+  public Map<String, Integer> count(Long groupId) {
+    lock.readLock().lock();
+    try {
+      RoaringBitmap scope = groupId != null ? groups.get(groupId) : all;
+      if (scope == null) {
+        return Map.of();
+      }
+      scope = RoaringBitmap.andNot(scope, excluded);
+
+      Map<String, Integer> counts = new HashMap<>();
+      for (Map.Entry<String, RoaringBitmap> entry : bitmaps.entrySet()) {
+        int cardinality = RoaringBitmap.andCardinality(entry.getValue(), scope);
+        if (cardinality > 0) {
+          counts.put(entry.getKey(), cardinality);
+        }
+      }
+      Map<String, Integer> sorted = new LinkedHashMap<>();
+      counts.entrySet().stream()
+          .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+          .forEachOrdered(entry -> sorted.put(entry.getKey(), entry.getValue()));
+      return sorted;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private static boolean isIndexable(Long id) {
+    return id >= 0 && id <= Integer.MAX_VALUE;
+  }
+}
@@ -0,0 +1,217 @@
+package net.devgrr.interp.ia.api.work.search;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.devgrr.interp.ia.api.util.RebuildableIndex;
+import net.devgrr.interp.ia.api.work.issue.entity.QIssue;
+import net.devgrr.interp.ia.api.work.project.entity.QProject;
+import net.devgrr.interp.ia.api.work.search.dto.TagCountResponse;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/*
+ * 이슈/프로젝트 태그 비트맵 색인
+ * - 애플리케이션 시작 시, 이후 search.index.rebuild-cron 주기로 전체 색인 후
+ *   생성, 태그 수정, 삭제/복구 커밋 시점에 갱신 (다른 인스턴스에서 변경된 내용은 다음 전체 색인 때 반영)
+ * - 전체 색인 중 갱신 처리, 색인 교체는 RebuildableIndex 참고
+ * - 태그 조건은 issue_tags / project_tags 서브쿼리 대신 후보 ID IN 조건으로 변환
+ *   (다른 후보 ID 집합이 있으면 그 범위 내에서만 확인)
+ * - 첫 색인 전, 색인하지 못한 문서가 있을 때, 후보가 너무 많을 때는 null 을 반환하여 DB 조건 사용
+ *   (태그별 건수도 같은 경우 DB 에서 집계)
+ * */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class TagSearchIndex {
+
+  private static final int MAX_CANDIDATES = 1000;
+
+  private final JPAQueryFactory queryFactory;
+
+  private final RebuildableIndex<Indexes> indexes = new RebuildableIndex<>();
+
+  private final QIssue qIssue = QIssue.issue;
+  private final QProject qProject = QProject.project;
+  private final StringPath qTag = Expressions.stringPath("qTag");
+
+  private record Indexes(TagBitmapIndex issueTags, TagBitmapIndex projectTags) {}
+
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(cron = "${search.index.rebuild-cron:0 0 * * * *}")
+  @Transactional(readOnly = true)
+  public void rebuild() {
+    indexes.rebuild(this::load);
+  }
+
+  private Indexes load() {
+    TagBitmapIndex issueTags = new TagBitmapIndex();
+    TagBitmapIndex projectTags = new TagBitmapIndex();
+
+    Map<Long, List<String>> tagsByIssueId =
+        group(queryFactory.select(qIssue.id, qTag).from(qIssue).join(qIssue.tag, qTag).fetch());
+    List<Tuple> issues =
+        queryFactory
+            .select(qIssue.id, qIssue.parentProject.id, qIssue.isDeleted)
+            .from(qIssue)
+            .fetch();
+    List<Long> deletedIssueIds = new ArrayList<>();
+    for (Tuple issue : issues) {
+      Long id = issue.get(qIssue.id);
+      issueTags.put(id, issue.get(qIssue.parentProject.id), tagsByIssueId.get(id));
+      if (Boolean.TRUE.equals(issue.get(qIssue.isDeleted))) {
+        deletedIssueIds.add(id);
+      }
+    }
+    issueTags.setExcluded(deletedIssueIds, true);
+
+    Map<Long, List<String>> tagsByProjectId =
+        group(
+            queryFactory
+                .select(qProject.id, qTag)
+                .from(qProject)
+                .join(qProject.tag, qTag)
+                .fetch());
+    List<Tuple> projects =
+        queryFactory.select(qProject.id, qProject.isDeleted).from(qProject).fetch();
+    List<Long> deletedProjectIds = new ArrayList<>();
+    for (Tuple project : projects) {
+      Long id = project.get(qProject.id);
+      projectTags.put(id, null, tagsByProjectId.get(id));
+      if (Boolean.TRUE.equals(project.get(qProject.isDeleted))) {
+        deletedProjectIds.add(id);
+      }
+    }
+    projectTags.setExcluded(deletedProjectIds, true);
+
+    log.info("Indexed tags of {} issues, {} projects.", issues.size(), projects.size());
+    return new Indexes(issueTags, projectTags);
+  }
+
+  public void indexIssue(Long id, Long projectId, Collection<String> tags) {
+    indexes.update(current -> current.issueTags().put(id, projectId, tags));
+  }
+
+  public void setIssuesDeleted(Collection<Long> ids, boolean flag) {
+    indexes.update(current -> current.issueTags().setExcluded(ids, flag));
+  }
+
+  public void indexProject(Long id, Collection<String> tags) {
+    indexes.update(current -> current.projectTags().put(id, null, tags));
+  }
+
+  // 프로젝트 삭제/복구 시 하위 이슈 전체에 함께 적용
+  public void setProjectDeleted(Long id, boolean flag) {
+    indexes.update(
+        current -> {
+          current.projectTags().setExcluded(List.of(id), flag);
+          current.issueTags().setGroupExcluded(id, flag);
+        });
+  }
+
+  /**
+   * 태그 조건을 만족하는 삭제되지 않은 이슈 ID 후보를 반환한다. (변경 가능한 Set)
+   *
+   * <p>within 이 null 이 아니면 within 에 속한 ID 만 반환한다. 색인을 사용할 수 없거나 within 없이
+   * 후보가 너무 많으면 null 을 반환한다.
+   */
+  public Set<Long> findIssueCandidates(Set<String> tags, boolean matchAll, Set<Long> within) {
+    Indexes current = indexes.get();
+    return current != null ? candidates(current.issueTags(), tags, matchAll, within) : null;
+  }
+
+  /** {@link #findIssueCandidates} 와 동일한 규칙으로 프로젝트 ID 후보를 반환한다. */
+  public Set<Long> findProjectCandidates(Set<String> tags, boolean matchAll, Set<Long> within) {
+    Indexes current = indexes.get();
+    return current != null ? candidates(current.projectTags(), tags, matchAll, within) : null;
+  }
+
+  // projectId 가 null 이면 전체 이슈 기준
+  public List<TagCountResponse> countIssueTags(Long projectId) {
+    Indexes current = indexes.get();
+    if (current == null || !current.issueTags().isComplete()) {
+      return countFromDb(
+          queryFactory
+              .select(qTag, qIssue.id.count())
+              .from(qIssue)
+              .join(qIssue.tag, qTag)
+              .where(
+                  qIssue.isDeleted.isFalse(),
+                  qIssue.parentProject.isDeleted.isFalse(),
+                  projectId != null ? qIssue.parentProject.id.eq(projectId) : null));
+    }
+    return toResponse(current.issueTags().count(projectId));
+  }
+
+  public List<TagCountResponse> countProjectTags() {
+    Indexes current = indexes.get();
+    if (current == null || !current.projectTags().isComplete()) {
+      return countFromDb(
+          queryFactory
+              .select(qTag, qProject.id.count())
+              .from(qProject)
+              .join(qProject.tag, qTag)
+              .where(qProject.isDeleted.isFalse()));
+    }
+    return toResponse(current.projectTags().count(null));
+  }
+
+  private Set<Long> candidates(
+      TagBitmapIndex index, Set<String> tags, boolean matchAll, Set<Long> within) {
+    if (!index.isComplete()) {
+      return null;
+    }
+    RoaringBitmap bitmap = index.match(tags, matchAll);
+    Set<Long> ids = new HashSet<>();
+    if (within != null) {
+      for (Long id : within) {
+        if (id >= 0 && id <= Integer.MAX_VALUE && bitmap.contains(id.intValue())) {
+          ids.add(id);
+        }
+      }
+      return ids;
+    }
+    if (bitmap.getLongCardinality() > MAX_CANDIDATES) {
+      return null;
+    }
+    bitmap.forEach((int id) -> ids.add((long) id));
+    return ids;
+  }
+
+  private List<TagCountResponse> countFromDb(JPAQuery<Tuple> query) {
+    return query.groupBy(qTag).fetch().stream()
+        .map(row -> new TagCountResponse(row.get(qTag), row.get(1, Long.class).intValue()))
+        .sorted(Comparator.comparing(TagCountResponse::count).reversed())
+        .toList();
+  }
+
+  private List<TagCountResponse> toResponse(Map<String, Integer> counts) {
+    return counts.entrySet().stream()
+        .map(entry -> new TagCountResponse(entry.getKey(), entry.getValue()))
+        .toList();
+  }
+
+  private Map<Long, List<String>> group(List<Tuple> rows) {
+    Map<Long, List<String>> result = new HashMap<>();
+    for (Tuple row : rows) {
+      result.computeIfAbsent(row.get(0, Long.class), k -> new ArrayList<>()).add(row.get(qTag));
+    }
+    return result;
+  }
+}
@@ -0,0 +1,145 @@
+package net.devgrr.interp.ia.api.work.search;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.devgrr.interp.ia.api.util.RebuildableIndex;
+import net.devgrr.interp.ia.api.work.issue.entity.QIssue;
+import net.devgrr.interp.ia.api.work.project.entity.QProject;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+/*
+ * 이슈/프로젝트 제목, 부제목 검색용 메모리 색인
+ * - 애플리케이션 시작 시, 이후 search.index.rebuild-cron 주기로 전체 색인 후 생성/수정 커밋 시점에 갱신
+ *   (다른 인스턴스에서 변경된 내용은 다음 전체 색인 때 반영)
+ * - 전체 색인 중 갱신 처리, 색인 교체는 RebuildableIndex 참고
+ * - 첫 색인 전에는 후보를 좁히지 않음 (DB like 조건만 사용)
+ * - 검색 시 후보 ID 집합을 먼저 구하고, DB 에서는 후보 ID 범위 내에서만 like 조건 확인
+ * - 후보가 너무 많으면 IN 조건이 오히려 느리므로 후보 제한 없이 DB 조건만 사용
+ * */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class TitleSearchIndex {
+
+  private static final int MAX_CANDIDATES = 1000;
+
+  private final JPAQueryFactory queryFactory;
+
+  private final RebuildableIndex<Indexes> indexes = new RebuildableIndex<>();
+
+  private final QIssue qIssue = QIssue.issue;
+  private final QProject qProject = QProject.project;
+
+  private record Indexes(
+      NgramIndex issueTitles,
+      NgramIndex issueSubTitles,
+      NgramIndex projectTitles,
+      NgramIndex projectSubTitles) {
+    Indexes() {
+      this(new NgramIndex(), new NgramIndex(), new NgramIndex(), new NgramIndex());
+    }
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(cron = "${search.index.rebuild-cron:0 0 * * * *}")
+  @Transactional(readOnly = true)
+  public void rebuild() {
+    indexes.rebuild(this::load);
+  }
+
+  private Indexes load() {
+    Indexes rebuilt = new Indexes();
+
+    List<Tuple> issues =
+        queryFactory.select(qIssue.id, qIssue.title, qIssue.subTitle).from(qIssue).fetch();
+    for (Tuple issue : issues) {
+      Long id = issue.get(qIssue.id);
+      rebuilt.issueTitles().put(id, issue.get(qIssue.title));
+      rebuilt.issueSubTitles().put(id, issue.get(qIssue.subTitle));
+    }
+    List<Tuple> projects =
+        queryFactory
+            .select(qProject.id, qProject.title, qProject.subTitle)
+            .from(qProject)
+            .fetch();
+    for (Tuple project : projects) {
+      Long id = project.get(qProject.id);
+      rebuilt.projectTitles().put(id, project.get(qProject.title));
+      rebuilt.projectSubTitles().put(id, project.get(qProject.subTitle));
+    }
+
+    log.info("Indexed titles of {} issues, {} projects.", issues.size(), projects.size());
+    return rebuilt;
+  }
+
+  public void indexIssue(Long id, String title, String subTitle) {
+    indexes.update(
+        current -> {
+          current.issueTitles().put(id, title);
+          current.issueSubTitles().put(id, subTitle);
+        });
+  }
+
+  public void indexProject(Long id, String title, String subTitle) {
+    indexes.update(
+        current -> {
+          current.projectTitles().put(id, title);
+          current.projectSubTitles().put(id, subTitle);
+        });
+  }
+
+  /**
+   * 제목, 부제목 검색어를 모두 만족할 수 있는 이슈 ID 후보를 반환한다.
+   *
+   * <p>후보를 좁힐 수 없거나 후보가 너무 많으면 null 을 반환한다.
+   */
+  public Set<Long> findIssueCandidates(String title, String subTitle) {
+    Indexes current = indexes.get();
+    if (current == null) {
+      return null;
+    }
+    return candidates(current.issueTitles(), title, current.issueSubTitles(), subTitle);
+  }
+
+  /** {@link #findIssueCandidates} 와 동일한 규칙으로 프로젝트 ID 후보를 반환한다. */
+  public Set<Long> findProjectCandidates(String title, String subTitle) {
+    Indexes current = indexes.get();
+    if (current == null) {
+      return null;
+    }
+    return candidates(current.projectTitles(), title, current.projectSubTitles(), subTitle);
+  }
+
+  private Set<Long> candidates(
+      NgramIndex titleIndex, String title, NgramIndex subTitleIndex, String subTitle) {
+    RoaringBitmap byTitle = StringUtils.hasText(title) ? titleIndex.search(title) : null;
+    RoaringBitmap bySubTitle =
+        StringUtils.hasText(subTitle) ? subTitleIndex.search(subTitle) : null;
+
+    RoaringBitmap result;
+    if (byTitle == null) {
+      result = bySubTitle;
+    } else if (bySubTitle == null) {
+      result = byTitle;
+    } else {
+      result = RoaringBitmap.and(byTitle, bySubTitle);
+    }
+    if (result == null || result.getLongCardinality() > MAX_CANDIDATES) {
+      return null;
+    }
+    Set<Long> ids = new HashSet<>();
+    result.forEach((int id) -> ids.add((long) id));
+    return ids;
+  }
+}
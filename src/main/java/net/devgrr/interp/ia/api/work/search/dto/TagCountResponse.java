@@ -0,0 +1,7 @@
+package net.devgrr.interp.ia.api.work.search.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "태그별 건수 응답 객체")
+public record TagCountResponse(
+    @Schema(description = "태그") String tag, @Schema(description = "건수") Integer count) {}
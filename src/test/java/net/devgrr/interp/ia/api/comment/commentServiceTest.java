@@ -9,6 +9,7 @@ import java.util.Objects;
 import java.util.Optional;
 import net.devgrr.interp.ia.api.comment.dto.CommentRequest;
 import net.devgrr.interp.ia.api.comment.dto.CommentResponse;
+import net.devgrr.interp.ia.api.comment.dto.CommentThreadResponse;
 import net.devgrr.interp.ia.api.comment.entity.Comment;
 import net.devgrr.interp.ia.api.config.exception.BaseException;
 import net.devgrr.interp.ia.api.config.exception.ErrorCode;
@@ -162,6 +163,7 @@ public class commentServiceTest {
                 null,
                 null,
                 null,
+                null,
                 null);
 
         parentResp =
@@ -175,7 +177,8 @@ public class commentServiceTest {
                 null,
                 null,
                 null,
-                List.of(childResp));
+                List.of(childResp),
+                1);
       }
 
       @Test
@@ -183,7 +186,7 @@ public class commentServiceTest {
       public void getCommentsWithNestedTest() throws BaseException {
         when(commentRepository.findAllByReferenceTypeAndReferenceId(IssueCategory.PROJECT, 10L))
             .thenReturn(comments);
-        when(commentMapper.toResponseWithChildren(any(Comment.class), anyList()))
+        when(commentMapper.toResponseWithChildren(any(Comment.class), anyList(), anyInt()))
             .thenReturn(parentResp);
         when(projectRepository.existsById(10L)).thenReturn(true);
 
@@ -195,7 +198,28 @@ public class commentServiceTest {
         assertEquals(1, result.get(0).childComment().size());
 
         verify(commentRepository, times(1)).findAllByReferenceTypeAndReferenceId(any(), anyLong());
-        verify(commentMapper, times(2)).toResponseWithChildren(any(Comment.class), anyList());
+        verify(commentMapper, times(2))
+            .toResponseWithChildren(any(Comment.class), anyList(), anyInt());
+      }
+
+      @Test
+      @DisplayName("최상위 댓글 페이지 조회 성공 (하위 댓글 수만 포함)")
+      public void getCommentThreadsTest() throws BaseException {
+        Comment nextComment = Comment.builder().id(3L).parentCommentId(null).build();
+        when(projectService.existById(10L)).thenReturn(true);
+        when(commentRepository.findThreads(eq(IssueCategory.PROJECT), eq(10L), eq(0L), any()))
+            .thenReturn(List.of(parentComment, nextComment));
+        when(commentRepository.countByParentCommentIdIn(List.of(1L)))
+            .thenReturn(List.<Object[]>of(new Object[] {1L, 1L}));
+        when(commentMapper.toResponseWithChildren(parentComment, null, 1)).thenReturn(parentResp);
+
+        CommentThreadResponse result =
+            commentService.getCommentThreads(IssueCategory.PROJECT, 10L, null, 1, 0);
+
+        assertEquals(1, result.comments().size());
+        assertTrue(result.hasNext());
+        assertEquals(1L, result.nextCursor());
+        verify(commentRepository, never()).findAllByParentCommentIdIn(any());
       }
 
       @Test
@@ -0,0 +1,118 @@
+package net.devgrr.interp.ia.api.config.metrics;
+
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import net.devgrr.interp.ia.api.comment.CommentRepository;
+import net.devgrr.interp.ia.api.comment.entity.Comment;
+import net.devgrr.interp.ia.api.config.issue.IssueCategory;
+import net.devgrr.interp.ia.api.config.issue.IssueStatus;
+import net.devgrr.interp.ia.api.config.issue.IssueType;
+import net.devgrr.interp.ia.api.config.issue.Priority;
+import net.devgrr.interp.ia.api.jwt.JwtService;
+import net.devgrr.interp.ia.api.member.MemberRepository;
+import net.devgrr.interp.ia.api.member.entity.Member;
+import net.devgrr.interp.ia.api.work.issue.IssueRepository;
+import net.devgrr.interp.ia.api.work.issue.entity.Issue;
+import net.devgrr.interp.ia.api.work.project.ProjectRepository;
+import net.devgrr.interp.ia.api.work.project.entity.Project;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.transaction.annotation.Transactional;
+
+/*
+ * fail 모드에서 @QueryBudget 이 선언된 API 의 SQL 실행 횟수 검사
+ * - 테스트 데이터 저장 후 영속성 컨텍스트를 비워 API 가 실제로 실행하는 쿼리만 집계
+ * */
+@SpringBootTest(properties = "api.query-budget.mode=fail")
+@AutoConfigureMockMvc
+@Transactional
+public class QueryBudgetControllerTest {
+  @Autowired private MockMvc mockMvc;
+  @Autowired private JwtService jwtService;
+  @Autowired private EntityManager entityManager;
+  @Autowired private MemberRepository memberRepository;
+  @Autowired private ProjectRepository projectRepository;
+  @Autowired private IssueRepository issueRepository;
+  @Autowired private CommentRepository commentRepository;
+
+  private String accessToken;
+  private Issue issue;
+
+  @BeforeEach
+  public void setUp() {
+    accessToken = jwtService.createAccessToken("admin@admin.com");
+    List<Member> members =
+        List.of("admin@admin.com", "user1@naver.com", "user2@google.com").stream()
+            .map(email -> memberRepository.findByEmail(email).orElseThrow())
+            .toList();
+    Member admin = members.get(0);
+
+    Project project =
+        projectRepository.save(
+            Project.builder()
+                .type(IssueType.PROJECT)
+                .status(IssueStatus.TODO)
+                .priority(Priority.MEDIUM)
+                .title("project")
+                .creator(admin)
+                .isDeleted(false)
+                .build());
+    Issue parent = issueRepository.save(issue("parent", admin, project, null));
+    issue = issueRepository.save(issue("issue", admin, project, parent));
+    issueRepository.save(issue("sub", members.get(1), project, issue));
+
+    // 작성자가 서로 다른 댓글 (작성자를 따로 조회하면 budget 초과)
+    members.forEach(
+        member ->
+            commentRepository.save(
+                Comment.builder()
+                    .content("comment by " + member.getName())
+                    .member(member)
+                    .referenceType(IssueCategory.ISSUE)
+                    .referenceId(issue.getId())
+                    .build()));
+
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  private static Issue issue(String title, Member creator, Project project, Issue parentIssue) {
+    return Issue.builder()
+        .type(IssueType.STORY)
+        .status(IssueStatus.TODO)
+        .priority(Priority.MEDIUM)
+        .title(title)
+        .creator(creator)
+        .parentProject(project)
+        .parentIssue(parentIssue)
+        .isDeleted(false)
+        .build();
+  }
+
+  @Test
+  @DisplayName("이슈 조회 budget 테스트")
+  public void getIssueTest() throws Exception {
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.get("/api/issues/" + issue.getId())
+                .header("Authorization", "Bearer " + accessToken))
+        .andExpect(MockMvcResultMatchers.status().isOk())
+        .andExpect(MockMvcResultMatchers.jsonPath("$.id").value(issue.getId()));
+  }
+
+  @Test
+  @DisplayName("댓글 목록 조회 budget 테스트")
+  public void getCommentsTest() throws Exception {
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.get("/api/comments/ISSUE/" + issue.getId())
+                .header("Authorization", "Bearer " + accessToken))
+        .andExpect(MockMvcResultMatchers.status().isOk())
+        .andExpect(MockMvcResultMatchers.jsonPath("$.length()").value(3));
+  }
+}
@@ -0,0 +1,65 @@
+package net.devgrr.interp.ia.api.config.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+public class QueryBudgetFilterTest {
+
+  private final QueryBudgetFilter filter = new QueryBudgetFilter(new ObjectMapper());
+
+  private MockHttpServletRequest request;
+  private MockHttpServletResponse response;
+
+  @BeforeEach
+  void setUp() {
+    request = new MockHttpServletRequest("GET", "/test");
+    response = new MockHttpServletResponse();
+  }
+
+  //  컨트롤러가 200 본문을 기록하고 flush 한 뒤 postHandle 에서 초과가 기록되는 상황
+  private MockFilterChain chain(String exceeded) {
+    return new MockFilterChain(
+        new HttpServlet() {
+          @Override
+          protected void service(HttpServletRequest req, HttpServletResponse res)
+              throws IOException {
+            res.setContentType("application/json");
+            res.getOutputStream().write("{\"id\":1}".getBytes(StandardCharsets.UTF_8));
+            res.flushBuffer();
+            if (exceeded != null) {
+              req.setAttribute(QueryBudgetInterceptor.EXCEEDED_ATTRIBUTE, exceeded);
+            }
+          }
+        });
+  }
+
+  @Test
+  @DisplayName("budget 이내 응답은 그대로 전달 테스트")
+  public void withinBudgetTest() throws Exception {
+    filter.doFilter(request, response, chain(null));
+
+    assertEquals(200, response.getStatus());
+    assertEquals("{\"id\":1}", response.getContentAsString());
+  }
+
+  @Test
+  @DisplayName("budget 초과 응답은 본문을 버리고 500 으로 교체 테스트")
+  public void exceededBudgetTest() throws Exception {
+    filter.doFilter(request, response, chain("Query budget exceeded"));
+
+    assertEquals(500, response.getStatus());
+    String body = response.getContentAsString(StandardCharsets.UTF_8);
+    assertFalse(body.contains("\"id\""));
+    assertTrue(body.contains("Query budget exceeded"));
+  }
+}
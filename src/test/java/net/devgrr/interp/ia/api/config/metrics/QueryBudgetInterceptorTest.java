@@ -0,0 +1,107 @@
+package net.devgrr.interp.ia.api.config.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+public class QueryBudgetInterceptorTest {
+
+  private MockHttpServletRequest request;
+  private MockHttpServletResponse response;
+  private HandlerMethod handler;
+
+  static class TestController {
+    @QueryBudget(2)
+    public void budgeted() {}
+
+    public void unbudgeted() {}
+  }
+
+  @BeforeEach
+  void setUp() throws NoSuchMethodException {
+    request = new MockHttpServletRequest("GET", "/test");
+    response = new MockHttpServletResponse();
+    handler = handlerOf("budgeted");
+  }
+
+  @AfterEach
+  void tearDown() {
+    QueryCounter.stop();
+  }
+
+  private HandlerMethod handlerOf(String name) throws NoSuchMethodException {
+    return new HandlerMethod(new TestController(), TestController.class.getMethod(name));
+  }
+
+  private void runQueries(int count) {
+    for (int i = 0; i < count; i++) {
+      QueryCounter.increment();
+    }
+  }
+
+  @Test
+  @DisplayName("budget 이내 실행 시 통과 테스트")
+  public void withinBudgetTest() {
+    QueryBudgetInterceptor interceptor = new QueryBudgetInterceptor(QueryBudgetMode.FAIL);
+
+    assertTrue(interceptor.preHandle(request, response, handler));
+    runQueries(2);
+    assertDoesNotThrow(() -> interceptor.postHandle(request, response, handler, null));
+    assertNull(QueryBudgetInterceptor.exceededMessage(request));
+  }
+
+  @Test
+  @DisplayName("budget 초과 시 fail 모드 초과 내역 기록 테스트")
+  public void exceededBudgetFailTest() {
+    QueryBudgetInterceptor interceptor = new QueryBudgetInterceptor(QueryBudgetMode.FAIL);
+
+    interceptor.preHandle(request, response, handler);
+    runQueries(3);
+    interceptor.postHandle(request, response, handler, null);
+
+    String message = QueryBudgetInterceptor.exceededMessage(request);
+    assertNotNull(message);
+    assertTrue(message.contains("ran 3 queries (budget: 2)"));
+  }
+
+  @Test
+  @DisplayName("budget 초과 시 warn 모드 통과 테스트")
+  public void exceededBudgetWarnTest() {
+    QueryBudgetInterceptor interceptor = new QueryBudgetInterceptor(QueryBudgetMode.WARN);
+
+    interceptor.preHandle(request, response, handler);
+    runQueries(3);
+    assertDoesNotThrow(() -> interceptor.postHandle(request, response, handler, null));
+    assertNull(QueryBudgetInterceptor.exceededMessage(request));
+  }
+
+  @Test
+  @DisplayName("필터에서 집계 중인 요청은 preHandle 이후 실행분만 계산 테스트")
+  public void baselineTest() {
+    QueryCounter.start();
+    runQueries(10);
+    QueryBudgetInterceptor interceptor = new QueryBudgetInterceptor(QueryBudgetMode.FAIL);
+
+    interceptor.preHandle(request, response, handler);
+    runQueries(2);
+    assertDoesNotThrow(() -> interceptor.postHandle(request, response, handler, null));
+
+    interceptor.afterCompletion(request, response, handler, null);
+    assertTrue(QueryCounter.isActive());
+  }
+
+  @Test
+  @DisplayName("@QueryBudget 이 없는 API 는 검사하지 않음 테스트")
+  public void unbudgetedTest() throws NoSuchMethodException {
+    HandlerMethod unbudgeted = handlerOf("unbudgeted");
+    QueryBudgetInterceptor interceptor = new QueryBudgetInterceptor(QueryBudgetMode.FAIL);
+
+    interceptor.preHandle(request, response, unbudgeted);
+    runQueries(100);
+    assertDoesNotThrow(() -> interceptor.postHandle(request, response, unbudgeted, null));
+    assertFalse(QueryCounter.isActive());
+  }
+}
@@ -0,0 +1,105 @@
+package net.devgrr.interp.ia.api.jwt;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import net.devgrr.interp.ia.api.jwt.entity.RefreshToken;
+import net.devgrr.interp.ia.api.member.entity.Member;
+import net.devgrr.interp.ia.api.util.HashUtil;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class RefreshTokenServiceTest {
+  private static final int MAX_PER_MEMBER = 2;
+
+  @Mock RefreshTokenRepository refreshTokenRepository;
+
+  private RefreshTokenService refreshTokenService;
+  private Member member;
+  private Date expiresAt;
+  private String refreshToken;
+
+  @BeforeEach
+  void setUp() {
+    refreshTokenService = new RefreshTokenService(refreshTokenRepository, MAX_PER_MEMBER);
+    member = Member.builder().id(1L).email("admin@admin.com").build();
+    // JWT 만료 시각은 초 단위
+    expiresAt = Date.from(Instant.now().plus(1, ChronoUnit.DAYS).truncatedTo(ChronoUnit.SECONDS));
+    refreshToken = JWT.create().withExpiresAt(expiresAt).sign(Algorithm.HMAC512("test"));
+  }
+
+  @Test
+  @DisplayName("토큰 원문 대신 digest 로 회원 조회 테스트")
+  public void getMemberEmailTest() {
+    when(refreshTokenRepository.findMemberEmail(eq(HashUtil.sha256Hex(refreshToken)), any()))
+        .thenReturn(Optional.of("admin@admin.com"));
+
+    assertEquals(Optional.of("admin@admin.com"), refreshTokenService.getMemberEmail(refreshToken));
+    verify(refreshTokenRepository, never()).findMemberEmail(eq(refreshToken), any());
+  }
+
+  @Test
+  @DisplayName("토큰 저장 시 digest, 만료 일시 저장 테스트")
+  public void setRefreshTokenTest() {
+    when(refreshTokenRepository.findActiveIds(eq(1L), any())).thenReturn(List.of(10L));
+
+    refreshTokenService.setRefreshToken(member, refreshToken);
+
+    ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+    verify(refreshTokenRepository).save(saved.capture());
+    assertEquals(HashUtil.sha256Hex(refreshToken), saved.getValue().getTokenHash());
+    assertEquals(64, saved.getValue().getTokenHash().length());
+    assertEquals(
+        LocalDateTime.ofInstant(expiresAt.toInstant(), ZoneId.systemDefault()),
+        saved.getValue().getExpiresAt());
+    verify(refreshTokenRepository, never()).deleteAllByIds(any());
+  }
+
+  @Test
+  @DisplayName("회원당 최대 개수 초과 시 오래된 토큰 삭제 테스트")
+  public void trimOldestTokensTest() {
+    // 최근 발급 순
+    when(refreshTokenRepository.findActiveIds(eq(1L), any()))
+        .thenReturn(List.of(14L, 13L, 12L, 11L));
+
+    refreshTokenService.setRefreshToken(member, refreshToken);
+
+    verify(refreshTokenRepository).deleteAllByIds(List.of(12L, 11L));
+  }
+
+  @Test
+  @DisplayName("로그아웃 시 digest 로 토큰 삭제 테스트")
+  public void deleteRefreshTokenTest() {
+    refreshTokenService.deleteRefreshToken(refreshToken);
+
+    verify(refreshTokenRepository).deleteByTokenHash(HashUtil.sha256Hex(refreshToken));
+  }
+
+  @Test
+  @DisplayName("만료된 토큰 일괄 삭제 테스트")
+  public void deleteExpiredRefreshTokensTest() {
+    LocalDateTime before = LocalDateTime.now();
+    when(refreshTokenRepository.deleteExpired(any())).thenReturn(3);
+
+    refreshTokenService.deleteExpiredRefreshTokens();
+
+    ArgumentCaptor<LocalDateTime> now = ArgumentCaptor.forClass(LocalDateTime.class);
+    verify(refreshTokenRepository).deleteExpired(now.capture());
+    assertFalse(now.getValue().isBefore(before));
+    assertFalse(now.getValue().isAfter(LocalDateTime.now()));
+  }
+}
@@ -0,0 +1,93 @@
+package net.devgrr.interp.ia.api.login;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.*;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+public class PasswordVerifierTest {
+
+  private final CountDownLatch started = new CountDownLatch(1);
+  private final CountDownLatch release = new CountDownLatch(1);
+  private PasswordVerifier passwordVerifier;
+
+  // 검증 시작을 알리고 release 될 때까지 대기하는 encoder
+  private final PasswordEncoder blockingEncoder =
+      new PasswordEncoder() {
+        @Override
+        public String encode(CharSequence rawPassword) {
+          return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+          started.countDown();
+          try {
+            release.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          return rawPassword.toString().equals(encodedPassword);
+        }
+      };
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    passwordVerifier.shutdown();
+  }
+
+  private Thread waitingCaller() {
+    Thread thread = new Thread(() -> passwordVerifier.matches("password", "password"));
+    thread.setDaemon(true);
+    thread.start();
+    return thread;
+  }
+
+  private static void awaitWaiting(Thread thread) throws InterruptedException {
+    while (thread.getState() != Thread.State.TIMED_WAITING) {
+      Thread.sleep(1);
+    }
+  }
+
+  @Test
+  @DisplayName("검증 결과 반환 테스트")
+  public void matchesTest() {
+    release.countDown();
+    passwordVerifier =
+        new PasswordVerifier(blockingEncoder, new SimpleMeterRegistry(), 1, 1, 1000, 200);
+
+    assertTrue(passwordVerifier.matches("password", "password"));
+    assertFalse(passwordVerifier.matches("password", "other"));
+  }
+
+  @Test
+  @DisplayName("대기열이 가득 차면 기다리지 않고 바로 LoginThrottledException 테스트")
+  public void saturatedTest() throws Exception {
+    passwordVerifier =
+        new PasswordVerifier(blockingEncoder, new SimpleMeterRegistry(), 1, 1, 60_000, 200);
+    Thread running = waitingCaller();
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+    awaitWaiting(running);
+    Thread queued = waitingCaller();
+    awaitWaiting(queued);
+
+    long begin = System.nanoTime();
+    assertThrows(
+        LoginThrottledException.class, () -> passwordVerifier.matches("password", "password"));
+    assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin) < 1000);
+  }
+
+  @Test
+  @DisplayName("대기 시간 초과 시 LoginThrottledException 테스트")
+  public void timeoutTest() {
+    passwordVerifier =
+        new PasswordVerifier(blockingEncoder, new SimpleMeterRegistry(), 1, 1, 50, 200);
+
+    assertThrows(
+        LoginThrottledException.class, () -> passwordVerifier.matches("password", "password"));
+  }
+}
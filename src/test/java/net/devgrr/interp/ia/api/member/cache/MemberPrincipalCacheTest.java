@@ -0,0 +1,97 @@
+package net.devgrr.interp.ia.api.member.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import net.devgrr.interp.ia.api.member.MemberRepository;
+import net.devgrr.interp.ia.api.member.MemberRole;
+import net.devgrr.interp.ia.api.member.entity.Member;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class MemberPrincipalCacheTest {
+  private static final String EMAIL = "test@test.com";
+
+  @Mock MemberRepository memberRepository;
+
+  private MemberPrincipalCache memberPrincipalCache;
+  private Member member;
+
+  @BeforeEach
+  void setUp() {
+    memberPrincipalCache =
+        new MemberPrincipalCache(
+            memberRepository, 100, Duration.ofMinutes(5), new SimpleMeterRegistry());
+    member =
+        Member.builder()
+            .email(EMAIL)
+            .password("password")
+            .role(MemberRole.USER)
+            .isActive(true)
+            .build();
+  }
+
+  @Test
+  @DisplayName("조회 결과 캐시 및 무효화 후 재조회 테스트")
+  public void cacheTest() {
+    when(memberRepository.findByEmail(EMAIL)).thenReturn(Optional.of(member));
+
+    assertEquals(EMAIL, memberPrincipalCache.get(EMAIL).orElseThrow().email());
+    assertEquals(EMAIL, memberPrincipalCache.get(EMAIL).orElseThrow().email());
+    verify(memberRepository, times(1)).findByEmail(EMAIL);
+
+    memberPrincipalCache.invalidate(EMAIL);
+    memberPrincipalCache.get(EMAIL);
+    verify(memberRepository, times(2)).findByEmail(EMAIL);
+  }
+
+  @Test
+  @DisplayName("미존재 회원은 캐시하지 않음 테스트")
+  public void missingMemberTest() {
+    when(memberRepository.findByEmail(EMAIL)).thenReturn(Optional.empty());
+
+    assertTrue(memberPrincipalCache.get(EMAIL).isEmpty());
+    assertTrue(memberPrincipalCache.get(EMAIL).isEmpty());
+    verify(memberRepository, times(2)).findByEmail(EMAIL);
+  }
+
+  @Test
+  @DisplayName("조회 중 무효화된 경우 조회 결과가 캐시에 남지 않음 테스트")
+  public void invalidateWhileLoadingTest() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    when(memberRepository.findByEmail(EMAIL))
+        .thenAnswer(
+            invocation -> {
+              started.countDown();
+              release.await();
+              return Optional.of(member);
+            })
+        .thenReturn(Optional.of(member));
+
+    Thread loader = new Thread(() -> memberPrincipalCache.get(EMAIL));
+    loader.start();
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+
+    // 회원 정보 수정 커밋 후 무효화 (조회가 끝날 때까지 대기 후 제거)
+    Thread invalidator = new Thread(() -> memberPrincipalCache.invalidate(EMAIL));
+    invalidator.start();
+    while (invalidator.getState() != Thread.State.BLOCKED && invalidator.isAlive()) {
+      Thread.sleep(1);
+    }
+    release.countDown();
+    loader.join();
+    invalidator.join();
+
+    memberPrincipalCache.get(EMAIL);
+    verify(memberRepository, times(2)).findByEmail(EMAIL);
+  }
+}
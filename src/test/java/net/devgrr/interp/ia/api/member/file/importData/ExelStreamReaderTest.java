@@ -0,0 +1,112 @@
+package net.devgrr.interp.ia.api.member.file.importData;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+import net.devgrr.interp.ia.api.config.exception.BaseException;
+import net.devgrr.interp.ia.api.member.dto.MemberRequest;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ExelStreamReaderTest {
+
+  @TempDir Path tempDir;
+
+  private static final String[] HEADERS = {
+    "email", "name", "password", "department", "job", "position", "phone"
+  };
+
+  @Test
+  @DisplayName("xlsx 스트리밍 읽기 테스트 (공유 문자열, 인라인 문자열)")
+  public void readXlsxTest() throws Exception {
+    File shared = write(new XSSFWorkbook(), "shared.xlsx");
+    File inline = write(new SXSSFWorkbook(), "inline.xlsx");
+
+    assertMembers(read(shared, true));
+    assertMembers(read(inline, true));
+  }
+
+  @Test
+  @DisplayName("xls 레코드 단위 읽기 테스트")
+  public void readXlsTest() throws Exception {
+    File file = write(new HSSFWorkbook(), "members.xls");
+
+    assertMembers(read(file, false));
+  }
+
+  @Test
+  @DisplayName("헤더 오류 시 예외 및 파일 삭제 테스트")
+  public void invalidHeaderTest() throws Exception {
+    File file = tempDir.resolve("invalid.xlsx").toFile();
+    try (Workbook workbook = new XSSFWorkbook();
+        FileOutputStream out = new FileOutputStream(file)) {
+      workbook.createSheet().createRow(0).createCell(0).setCellValue("unknown");
+      workbook.write(out);
+    }
+
+    assertThrows(BaseException.class, () -> read(file, true));
+    assertFalse(file.exists());
+  }
+
+  private List<ImportRow<MemberRequest>> read(File file, boolean isXlsx) throws BaseException {
+    ExelStreamReader<MemberRequest> reader = new ExelStreamReader<>();
+    reader.setFile(file);
+    reader.setXlsx(isXlsx);
+    reader.setClazz(MemberRequest.class);
+    try (Stream<ImportRow<MemberRequest>> rows = reader.read()) {
+      return rows.toList();
+    }
+  }
+
+  private void assertMembers(List<ImportRow<MemberRequest>> rows) {
+    assertEquals(2, rows.size());
+    assertTrue(rows.stream().allMatch(ImportRow::isValid));
+    // 엑셀 기준 행 번호 (헤더 1행)
+    assertEquals(2, rows.get(0).line());
+    assertEquals(4, rows.get(1).line());
+
+    List<MemberRequest> members = rows.stream().map(ImportRow::value).toList();
+    assertEquals("user1@test.com", members.get(0).email());
+    assertEquals("user1", members.get(0).name());
+    // 빈 셀, 헤더에 없는 필드
+    assertEquals("", members.get(0).phone());
+    assertNull(members.get(0).role());
+    assertEquals("010-2222-2222", members.get(1).phone());
+  }
+
+  // 2행은 phone 셀 없음, 3행은 빈 행
+  private File write(Workbook workbook, String fileName) throws IOException {
+    File file = tempDir.resolve(fileName).toFile();
+    try (workbook;
+        FileOutputStream out = new FileOutputStream(file)) {
+      Sheet sheet = workbook.createSheet("members");
+      Row header = sheet.createRow(0);
+      for (int i = 0; i < HEADERS.length; i++) {
+        header.createCell(i).setCellValue(HEADERS[i]);
+      }
+      for (int n = 1; n <= 2; n++) {
+        Row row = sheet.createRow(n == 1 ? 1 : 3);
+        for (int i = 0; i < HEADERS.length - 1; i++) {
+          row.createCell(i).setCellValue(i == 0 ? "user" + n + "@test.com" : HEADERS[i] + n);
+        }
+        if (n == 2) {
+          row.createCell(HEADERS.length - 1).setCellValue("010-2222-2222");
+        }
+      }
+      sheet.getRow(1).getCell(1).setCellValue("user1");
+      workbook.write(out);
+    }
+    return file;
+  }
+}
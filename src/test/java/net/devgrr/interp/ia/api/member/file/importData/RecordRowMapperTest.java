@@ -0,0 +1,61 @@
+package net.devgrr.interp.ia.api.member.file.importData;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+import net.devgrr.interp.ia.api.config.exception.BaseException;
+import net.devgrr.interp.ia.api.member.dto.MemberRequest;
+import org.junit.jupiter.api.*;
+
+public class RecordRowMapperTest {
+
+  private static final List<String> HEADERS =
+      List.of("position", "email", "name", "password", "department", "job");
+
+  @Test
+  @DisplayName("헤더 순서 기준 변환 및 값 배열 재사용 테스트")
+  public void mapTest() throws BaseException {
+    RecordRowMapper<MemberRequest> mapper = RecordRowMapper.compile(MemberRequest.class, HEADERS);
+
+    MemberRequest first =
+        mapper.map(List.of("사원", "user1@test.com", "user1", "pw", "개발팀", "백엔드"));
+    MemberRequest second = mapper.map(Arrays.asList("대리", "user2@test.com", null));
+
+    assertEquals("사원", first.position());
+    assertEquals("user1@test.com", first.email());
+    assertEquals("백엔드", first.job());
+    // 헤더에 없는 컴포넌트
+    assertNull(first.phone());
+
+    assertEquals("user2@test.com", second.email());
+    // 값이 없는 셀, 이전 행 값이 남지 않아야 함
+    assertEquals("", second.name());
+    assertEquals("", second.job());
+    assertNull(second.role());
+  }
+
+  @Test
+  @DisplayName("필드 타입 불일치 테스트")
+  public void typeMismatchTest() throws BaseException {
+    RecordRowMapper<MemberRequest> mapper = RecordRowMapper.compile(MemberRequest.class, HEADERS);
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> mapper.map(List.of(1.0, "user1@test.com", "user1", "pw", "개발팀", "백엔드")));
+  }
+
+  @Test
+  @DisplayName("헤더 오류 테스트")
+  public void invalidHeaderTest() {
+    assertThrows(
+        BaseException.class,
+        () -> RecordRowMapper.compile(MemberRequest.class, List.of("email", "name")));
+    assertThrows(
+        BaseException.class,
+        () ->
+            RecordRowMapper.compile(
+                MemberRequest.class,
+                List.of("email", "name", "password", "department", "job", "unknown")));
+  }
+}
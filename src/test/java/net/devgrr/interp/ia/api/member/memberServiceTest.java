@@ -6,6 +6,7 @@ import static org.mockito.Mockito.*;
 import net.devgrr.interp.ia.api.config.exception.BaseException;
 import net.devgrr.interp.ia.api.config.exception.ErrorCode;
 import net.devgrr.interp.ia.api.config.mapStruct.MemberMapper;
+import net.devgrr.interp.ia.api.member.cache.MemberPrincipalCache;
 import net.devgrr.interp.ia.api.member.dto.MemberRequest;
 import net.devgrr.interp.ia.api.member.dto.MemberUpdateRequest;
 import net.devgrr.interp.ia.api.member.entity.Member;
@@ -25,6 +26,7 @@ import java.util.stream.Collectors;
 public class memberServiceTest {
   @Mock MemberRepository memberRepository;
   @Mock MemberMapper memberMapper;
+  @Mock MemberPrincipalCache memberPrincipalCache;
 
   private Member member;
   private MemberRequest memberRequest;
@@ -64,7 +66,8 @@ public class memberServiceTest {
         when(memberRepository.save(member)).thenReturn(member);
 
         // Service 생성
-        MemberService memberService = new MemberService(memberRepository, memberMapper);
+        MemberService memberService =
+            new MemberService(memberRepository, memberMapper, memberPrincipalCache);
         // when
         Member result = memberService.setUsers(memberRequest);
 
@@ -82,7 +85,8 @@ public class memberServiceTest {
         // mock 설정
         when(memberRepository.existsByEmail(memberRequest.email())).thenReturn(Boolean.TRUE);
 
-        MemberService memberService = new MemberService(memberRepository, memberMapper);
+        MemberService memberService =
+            new MemberService(memberRepository, memberMapper, memberPrincipalCache);
         BaseException exception =
             assertThrows(BaseException.class, () -> memberService.setUsers(memberRequest));
 
@@ -97,7 +101,8 @@ public class memberServiceTest {
         // memberRepository.save 의 반환값이 null -> 객체 저장에 실패함
         when(memberRepository.save(member)).thenReturn(null);
 
-        MemberService memberService = new MemberService(memberRepository, memberMapper);
+        MemberService memberService =
+            new MemberService(memberRepository, memberMapper, memberPrincipalCache);
         BaseException exception =
             assertThrows(BaseException.class, () -> memberService.setUsers(memberRequest));
 
@@ -128,7 +133,8 @@ public class memberServiceTest {
         public void getUsersWithNoOptionTest() throws BaseException {
           when(memberRepository.findAll()).thenReturn(members);
 
-          MemberService memberService = new MemberService(memberRepository, memberMapper);
+          MemberService memberService =
+              new MemberService(memberRepository, memberMapper, memberPrincipalCache);
           List<Member> result = memberService.getUsers(null);
 
           Assertions.assertEquals(members, result);
@@ -141,7 +147,8 @@ public class memberServiceTest {
               members.stream().filter(Member::getIsActive).collect(Collectors.toList());
           when(memberRepository.findAllByIsActiveTrue()).thenReturn(activeMembers);
 
-          MemberService memberService = new MemberService(memberRepository, memberMapper);
+          MemberService memberService =
+              new MemberService(memberRepository, memberMapper, memberPrincipalCache);
           List<Member> result = memberService.getUsers("true");
 
           Assertions.assertEquals(activeMembers, result);
@@ -154,7 +161,8 @@ public class memberServiceTest {
         @Test
         @DisplayName("활성화 옵션에 true 나 false 이외의 문자열이 들어왔을 경우")
         public void getUsersWithOtherStringTest() {
-          MemberService memberService = new MemberService(memberRepository, memberMapper);
+          MemberService memberService =
+              new MemberService(memberRepository, memberMapper, memberPrincipalCache);
           BaseException exception =
               assertThrows(BaseException.class, () -> memberService.getUsers("else"));
 
@@ -175,7 +183,8 @@ public class memberServiceTest {
           when(memberRepository.findByEmail("test@test.com"))
               .thenReturn(Optional.ofNullable(member));
 
-          MemberService memberService = new MemberService(memberRepository, memberMapper);
+          MemberService memberService =
+              new MemberService(memberRepository, memberMapper, memberPrincipalCache);
           Member result = memberService.getUsersByEmail("test@test.com");
 
           Assertions.assertEquals(member, result);
@@ -190,7 +199,8 @@ public class memberServiceTest {
         public void getUsersByEmailTest() {
           when(memberRepository.findByEmail("nonExist@test.com")).thenReturn(Optional.empty());
 
-          MemberService memberService = new MemberService(memberRepository, memberMapper);
+          MemberService memberService =
+              new MemberService(memberRepository, memberMapper, memberPrincipalCache);
           BaseException exception =
               assertThrows(
                   BaseException.class, () -> memberService.getUsersByEmail("nonExist@test.com"));
@@ -223,7 +233,8 @@ public class memberServiceTest {
         when(memberRepository.findByEmail(userDetails.getUsername()))
             .thenReturn(Optional.ofNullable(member));
 
-        MemberService memberService = new MemberService(memberRepository, memberMapper);
+        MemberService memberService =
+            new MemberService(memberRepository, memberMapper, memberPrincipalCache);
         memberService.putUsers(userDetails, memberUpdateRequest);
 
         verify(memberMapper, times(1)).updateMember(memberUpdateRequest, member);
@@ -238,7 +249,8 @@ public class memberServiceTest {
       public void putUserNonExistMemberTest() throws BaseException {
         when(memberRepository.findByEmail(userDetails.getUsername())).thenReturn(Optional.empty());
 
-        MemberService memberService = new MemberService(memberRepository, memberMapper);
+        MemberService memberService =
+            new MemberService(memberRepository, memberMapper, memberPrincipalCache);
         BaseException exception =
             assertThrows(
                 BaseException.class,
@@ -256,7 +268,8 @@ public class memberServiceTest {
             .when(memberMapper)
             .updateMember(memberUpdateRequest, member);
 
-        MemberService memberService = new MemberService(memberRepository, memberMapper);
+        MemberService memberService =
+            new MemberService(memberRepository, memberMapper, memberPrincipalCache);
         BaseException exception =
             assertThrows(
                 BaseException.class,
@@ -278,7 +291,8 @@ public class memberServiceTest {
       public void putUserActiveByEmailTest() throws BaseException {
         when(memberRepository.findByEmail("test@test.com")).thenReturn(Optional.ofNullable(member));
 
-        MemberService memberService = new MemberService(memberRepository, memberMapper);
+        MemberService memberService =
+            new MemberService(memberRepository, memberMapper, memberPrincipalCache);
         memberService.putUsersActiveByEmail("test@test.com");
 
         verify(memberMapper, times(1)).activeMember(member, member);
@@ -289,7 +303,8 @@ public class memberServiceTest {
       public void putUserDeactivateByEmailTest() throws BaseException {
         when(memberRepository.findByEmail("test@test.com")).thenReturn(Optional.ofNullable(member));
 
-        MemberService memberService = new MemberService(memberRepository, memberMapper);
+        MemberService memberService =
+            new MemberService(memberRepository, memberMapper, memberPrincipalCache);
         memberService.putUsersDeactivateByEmail("test@test.com");
 
         verify(memberMapper, times(1)).deactivateMember(member, member);
@@ -304,7 +319,8 @@ public class memberServiceTest {
       public void putUserNonExistMemberTest() {
         when(memberRepository.findByEmail("test@test.com")).thenReturn(Optional.empty());
 
-        MemberService memberService = new MemberService(memberRepository, memberMapper);
+        MemberService memberService =
+            new MemberService(memberRepository, memberMapper, memberPrincipalCache);
         BaseException exception =
             assertThrows(
                 BaseException.class, () -> memberService.putUsersActiveByEmail("test@test.com"));
@@ -320,7 +336,8 @@ public class memberServiceTest {
             .when(memberMapper)
             .deactivateMember(member, member);
 
-        MemberService memberService = new MemberService(memberRepository, memberMapper);
+        MemberService memberService =
+            new MemberService(memberRepository, memberMapper, memberPrincipalCache);
         BaseException exception =
             assertThrows(
                 BaseException.class,
@@ -0,0 +1,81 @@
+package net.devgrr.interp.ia.api.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.*;
+
+public class RebuildableIndexTest {
+
+  private RebuildableIndex<Map<Long, String>> index;
+
+  @BeforeEach
+  void setUp() {
+    index = new RebuildableIndex<>();
+  }
+
+  @Test
+  @DisplayName("첫 적재 전에는 null, 적재 전 갱신은 무시 (첫 적재 조회에 포함됨) 테스트")
+  public void notReadyTest() {
+    assertNull(index.get());
+
+    index.update(map -> map.put(1L, "before"));
+    assertNull(index.get());
+
+    assertTrue(index.rebuild(HashMap::new));
+    assertEquals(Map.of(), index.get());
+  }
+
+  @Test
+  @DisplayName("적재 중 갱신은 이전 색인에 적용되고 새 색인에 다시 적용 테스트")
+  public void replayTest() {
+    index.rebuild(() -> new HashMap<>(Map.of(1L, "old")));
+    Map<Long, String> previous = index.get();
+
+    index.rebuild(
+        () -> {
+          // 적재용 조회 이후 커밋된 갱신
+          index.update(map -> map.put(2L, "created"));
+          index.update(map -> map.put(1L, "updated"));
+          return new HashMap<>(Map.of(1L, "snapshot"));
+        });
+
+    assertEquals(Map.of(1L, "updated", 2L, "created"), index.get());
+    assertEquals(Map.of(1L, "updated", 2L, "created"), previous);
+
+    index.update(map -> map.remove(2L));
+    assertEquals(Map.of(1L, "updated"), index.get());
+  }
+
+  @Test
+  @DisplayName("적재 실패 시 이전 색인 유지 테스트")
+  public void failedRebuildTest() {
+    index.rebuild(() -> new HashMap<>(Map.of(1L, "old")));
+
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            index.rebuild(
+                () -> {
+                  throw new IllegalStateException("db");
+                }));
+
+    assertEquals(Map.of(1L, "old"), index.get());
+    index.update(map -> map.put(2L, "after"));
+    assertTrue(index.rebuild(HashMap::new));
+    assertEquals(Map.of(), index.get());
+  }
+
+  @Test
+  @DisplayName("적재 중 중복 적재 요청은 무시 테스트")
+  public void concurrentRebuildTest() {
+    index.rebuild(
+        () -> {
+          assertFalse(index.rebuild(HashMap::new));
+          return new HashMap<>(Map.of(1L, "first"));
+        });
+
+    assertEquals(Map.of(1L, "first"), index.get());
+  }
+}
@@ -0,0 +1,120 @@
+package net.devgrr.interp.ia.api.work.issue.hierarchy;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import net.devgrr.interp.ia.api.config.issue.IssueStatus;
+import net.devgrr.interp.ia.api.config.issue.IssueType;
+import net.devgrr.interp.ia.api.config.issue.Priority;
+import net.devgrr.interp.ia.api.member.MemberRepository;
+import net.devgrr.interp.ia.api.member.entity.Member;
+import net.devgrr.interp.ia.api.work.issue.IssueService;
+import net.devgrr.interp.ia.api.work.issue.dto.IssueRequest;
+import net.devgrr.interp.ia.api.work.issue.entity.Issue;
+import net.devgrr.interp.ia.api.work.project.ProjectRepository;
+import net.devgrr.interp.ia.api.work.project.entity.Project;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+/*
+ * 이슈 등록 시 issue_closure 갱신 및 하위 이슈 조회
+ * - 등록: 루트 -> 하위 -> 하위의 하위 (단건), 하위의 하위 2건 (일괄)
+ * */
+@SpringBootTest
+@Transactional
+public class IssueClosureServiceTest {
+  private static final String USERNAME = "admin@admin.com";
+
+  @Autowired private IssueClosureService issueClosureService;
+  @Autowired private IssueService issueService;
+  @Autowired private MemberRepository memberRepository;
+  @Autowired private ProjectRepository projectRepository;
+
+  private Issue root;
+  private Issue child;
+  private Issue grandChild;
+  private List<Issue> bulkGrandChildren;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    Member admin = memberRepository.findByEmail(USERNAME).orElseThrow();
+    Project project =
+        projectRepository.save(
+            Project.builder()
+                .type(IssueType.PROJECT)
+                .status(IssueStatus.TODO)
+                .priority(Priority.MEDIUM)
+                .title("project")
+                .creator(admin)
+                .isDeleted(false)
+                .build());
+
+    root = issueService.setIssues(request("root", project, null), USERNAME);
+    child = issueService.setIssues(request("child", project, root), USERNAME);
+    grandChild = issueService.setIssues(request("grandChild", project, child), USERNAME);
+    bulkGrandChildren =
+        issueService.setIssuesBulk(
+            List.of(request("bulk1", project, child), request("bulk2", project, child)),
+            USERNAME);
+  }
+
+  private static IssueRequest request(String title, Project project, Issue parentIssue) {
+    return new IssueRequest(
+        null,
+        title,
+        null,
+        IssueType.STORY,
+        IssueStatus.TODO,
+        Priority.MEDIUM,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        project.getId(),
+        parentIssue != null ? parentIssue.getId() : null,
+        null);
+  }
+
+  private Set<Long> expected(Issue... issues) {
+    Set<Long> ids = new HashSet<>();
+    for (Issue issue : issues) {
+      ids.add(issue.getId());
+    }
+    bulkGrandChildren.forEach(issue -> ids.add(issue.getId()));
+    return ids;
+  }
+
+  @Test
+  @DisplayName("단건, 일괄 등록 후 하위 이슈 조회 테스트 (자기 자신 포함)")
+  public void descendantIdsTest() {
+    assertEquals(
+        expected(root, child, grandChild),
+        Set.copyOf(issueClosureService.getDescendantIds(root.getId())));
+    assertEquals(
+        expected(child, grandChild),
+        Set.copyOf(issueClosureService.getDescendantIds(child.getId())));
+    assertEquals(
+        Set.of(grandChild.getId()),
+        Set.copyOf(issueClosureService.getDescendantIds(grandChild.getId())));
+    assertEquals(
+        Set.of(bulkGrandChildren.get(0).getId()),
+        Set.copyOf(issueClosureService.getDescendantIds(bulkGrandChildren.get(0).getId())));
+  }
+
+  @Test
+  @DisplayName("전체 재구성 후에도 하위 이슈 조회 결과 동일 테스트")
+  public void rebuildTest() {
+    List<Long> before = issueClosureService.getDescendantIds(root.getId());
+
+    issueClosureService.rebuild();
+
+    assertEquals(
+        Set.copyOf(before), Set.copyOf(issueClosureService.getDescendantIds(root.getId())));
+  }
+}
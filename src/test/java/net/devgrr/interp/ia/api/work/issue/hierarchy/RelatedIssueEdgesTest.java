@@ -0,0 +1,86 @@
+package net.devgrr.interp.ia.api.work.issue.hierarchy;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.*;
+
+public class RelatedIssueEdgesTest {
+
+  private RelatedIssueEdges edges;
+  private Set<Long> deletedIds;
+
+  @BeforeEach
+  void setUp() {
+    // 1 -> 2 -> 3 -> 4, 5 -> 1 (역방향)
+    edges = new RelatedIssueEdges();
+    edges.setRelatedIssues(1L, List.of(2L));
+    edges.setRelatedIssues(2L, List.of(3L));
+    edges.setRelatedIssues(3L, List.of(4L));
+    edges.setRelatedIssues(5L, List.of(1L));
+    deletedIds = new HashSet<>();
+  }
+
+  private Set<Long> liveIdsOf(Collection<Long> ids) {
+    return ids.stream().filter(id -> !deletedIds.contains(id)).collect(Collectors.toSet());
+  }
+
+  @Test
+  @DisplayName("정방향, 역방향 연관 이슈 조회 테스트")
+  public void neighborIdsTest() {
+    assertEquals(Set.of(2L, 5L), edges.getNeighborIds(List.of(1L)));
+    assertEquals(Set.of(1L, 3L), edges.getNeighborIds(List.of(2L, 5L)));
+    assertEquals(Set.of(1L, 3L), edges.getNeighborIds(List.of(2L)));
+  }
+
+  @Test
+  @DisplayName("연관 이슈 교체 시 이전 역방향 관계 제거 테스트")
+  public void replaceTest() {
+    edges.setRelatedIssues(1L, List.of(3L));
+
+    assertEquals(Set.of(3L, 5L), edges.getNeighborIds(List.of(1L)));
+    assertEquals(Set.of(3L), edges.getNeighborIds(List.of(2L)));
+
+    edges.setRelatedIssues(1L, List.of());
+    assertEquals(Set.of(5L), edges.getNeighborIds(List.of(1L)));
+  }
+
+  @Test
+  @DisplayName("depth 단계까지의 이슈와 거리 조회 테스트")
+  public void neighborhoodTest() {
+    assertEquals(Map.of(2L, 1, 5L, 1), edges.getNeighborhood(1L, 1, 100, this::liveIdsOf));
+    assertEquals(
+        Map.of(2L, 1, 5L, 1, 3L, 2), edges.getNeighborhood(1L, 2, 100, this::liveIdsOf));
+    assertEquals(
+        Map.of(2L, 1, 5L, 1, 3L, 2, 4L, 3), edges.getNeighborhood(1L, 5, 100, this::liveIdsOf));
+  }
+
+  @Test
+  @DisplayName("삭제된 이슈는 결과에서 제외하고 더 따라가지 않음 테스트")
+  public void deletedIssueTest() {
+    deletedIds.add(2L);
+
+    Map<Long, Integer> distances = edges.getNeighborhood(1L, 5, 100, this::liveIdsOf);
+
+    assertEquals(Map.of(5L, 1), distances);
+  }
+
+  @Test
+  @DisplayName("삭제된 이슈는 limit 에 포함되지 않음 테스트")
+  public void limitTest() {
+    RelatedIssueEdges star = new RelatedIssueEdges();
+    star.setRelatedIssues(0L, LongStream.rangeClosed(1, 1200).boxed().toList());
+    LongStream.rangeClosed(1, 600).forEach(deletedIds::add);
+
+    Map<Long, Integer> distances = star.getNeighborhood(0L, 1, 500, this::liveIdsOf);
+
+    assertEquals(500, distances.size());
+    assertTrue(distances.keySet().stream().allMatch(id -> id > 600 && id <= 1100));
+  }
+}
@@ -0,0 +1,207 @@
+package net.devgrr.interp.ia.api.work.project.stats;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import jakarta.persistence.EntityManager;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.devgrr.interp.ia.api.config.issue.IssueStatus;
+import net.devgrr.interp.ia.api.config.issue.IssueType;
+import net.devgrr.interp.ia.api.config.issue.Priority;
+import net.devgrr.interp.ia.api.member.MemberRepository;
+import net.devgrr.interp.ia.api.member.entity.Member;
+import net.devgrr.interp.ia.api.work.issue.IssueService;
+import net.devgrr.interp.ia.api.work.issue.dto.IssueRequest;
+import net.devgrr.interp.ia.api.work.issue.entity.Issue;
+import net.devgrr.interp.ia.api.work.project.ProjectRepository;
+import net.devgrr.interp.ia.api.work.project.ProjectService;
+import net.devgrr.interp.ia.api.work.project.entity.Project;
+import net.devgrr.interp.ia.api.work.project.stats.dto.ProjectStatsResponse;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.transaction.annotation.Transactional;
+
+/*
+ * project_issue_stat 증감 반영 검사
+ * - 변경 유형(생성, 상태/중요도/유형 수정, 삭제/복구, 일괄 생성)마다 getStats 결과를 issue 테이블 GROUP BY 결과와 비교
+ * - 집계 행은 JDBC 로 갱신되므로 비교 전 영속성 컨텍스트를 flush, clear
+ * */
+@SpringBootTest
+@Transactional
+public class ProjectStatServiceTest {
+  private static final String USERNAME = "admin@admin.com";
+
+  @Autowired private ProjectStatService projectStatService;
+  @Autowired private IssueService issueService;
+  @Autowired private ProjectService projectService;
+  @Autowired private MemberRepository memberRepository;
+  @Autowired private ProjectRepository projectRepository;
+  @Autowired private EntityManager entityManager;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  private UserDetails userDetails;
+  private Project project;
+  private Project otherProject;
+
+  @BeforeEach
+  public void setUp() {
+    userDetails = User.withUsername(USERNAME).password("password").roles("ADMIN").build();
+    Member admin = memberRepository.findByEmail(USERNAME).orElseThrow();
+    project = projectRepository.save(project("project", admin));
+    otherProject = projectRepository.save(project("other", admin));
+  }
+
+  private static Project project(String title, Member creator) {
+    return Project.builder()
+        .type(IssueType.PROJECT)
+        .status(IssueStatus.TODO)
+        .priority(Priority.MEDIUM)
+        .title(title)
+        .creator(creator)
+        .isDeleted(false)
+        .build();
+  }
+
+  private static IssueRequest request(
+      Project project, Issue parentIssue, IssueType type, IssueStatus status, Priority priority) {
+    return new IssueRequest(
+        null,
+        "issue",
+        null,
+        type,
+        status,
+        priority,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        project.getId(),
+        parentIssue != null ? parentIssue.getId() : null,
+        null);
+  }
+
+  private Issue create(
+      Project project, Issue parentIssue, IssueType type, IssueStatus status, Priority priority)
+      throws Exception {
+    return issueService.setIssues(request(project, parentIssue, type, status, priority), USERNAME);
+  }
+
+  private Map<String, Long> groupBy(Long projectId, String column) {
+    Map<String, Long> counts = new HashMap<>();
+    jdbcTemplate.query(
+        ("SELECT COALESCE(%1$s, 'NONE') AS stat_value, COUNT(*) AS issue_count FROM issue"
+                + " WHERE is_deleted = false AND parent_project_id = ?"
+                + " GROUP BY COALESCE(%1$s, 'NONE')")
+            .formatted(column),
+        rs -> {
+          counts.put(rs.getString("stat_value"), rs.getLong("issue_count"));
+        },
+        projectId);
+    return counts;
+  }
+
+  private void assertMatchesGroupBy() {
+    entityManager.flush();
+    entityManager.clear();
+    for (Project target : List.of(project, otherProject)) {
+      ProjectStatsResponse stats = projectStatService.getStats(target.getId());
+      Map<String, Long> type = groupBy(target.getId(), "type");
+
+      assertEquals(type, stats.type());
+      assertEquals(groupBy(target.getId(), "status"), stats.status());
+      assertEquals(groupBy(target.getId(), "priority"), stats.priority());
+      assertEquals(type.values().stream().mapToLong(Long::longValue).sum(), stats.total());
+    }
+  }
+
+  @Test
+  @DisplayName("이슈 생성 후 집계 테스트")
+  public void createTest() throws Exception {
+    Issue story = create(project, null, IssueType.STORY, IssueStatus.TODO, Priority.HIGH);
+    create(project, story, IssueType.TASK, IssueStatus.IN_PROGRESS, Priority.HIGH);
+    create(project, null, IssueType.BUG, IssueStatus.TODO, null);
+    create(otherProject, null, IssueType.STORY, IssueStatus.DONE, Priority.LOW);
+
+    assertMatchesGroupBy();
+    assertEquals(3L, projectStatService.getStats(project.getId()).total());
+  }
+
+  @Test
+  @DisplayName("상태/중요도/유형 수정 후 집계 테스트")
+  public void patchTest() throws Exception {
+    Issue issue = create(project, null, IssueType.STORY, IssueStatus.TODO, Priority.HIGH);
+    create(project, null, IssueType.STORY, IssueStatus.TODO, Priority.HIGH);
+
+    issueService.putIssuesById(
+        issue.getId(), Map.<String, Object>of("status", "DONE"), userDetails);
+    assertMatchesGroupBy();
+
+    issueService.putIssuesById(
+        issue.getId(), Map.<String, Object>of("priority", "LOW", "type", "BUG"), userDetails);
+    assertMatchesGroupBy();
+
+    // 같은 값으로 수정 시 변화 없음
+    issueService.putIssuesById(
+        issue.getId(), Map.<String, Object>of("status", "DONE"), userDetails);
+    assertMatchesGroupBy();
+  }
+
+  @Test
+  @DisplayName("이슈 삭제/복구 후 집계 테스트 (하위 이슈 포함)")
+  public void deleteRestoreTest() throws Exception {
+    Issue parent = create(project, null, IssueType.STORY, IssueStatus.TODO, Priority.HIGH);
+    Issue child = create(project, parent, IssueType.TASK, IssueStatus.TODO, Priority.LOW);
+    create(project, null, IssueType.BUG, IssueStatus.DONE, Priority.MEDIUM);
+
+    issueService.putIssuesDeletedFlagById(child.getId(), true);
+    assertMatchesGroupBy();
+
+    // 이미 삭제된 하위 이슈는 다시 차감하지 않음
+    issueService.putIssuesDeletedFlagById(parent.getId(), true);
+    assertMatchesGroupBy();
+    assertEquals(1L, projectStatService.getStats(project.getId()).total());
+
+    issueService.putIssuesDeletedFlagById(parent.getId(), false);
+    assertMatchesGroupBy();
+    assertEquals(3L, projectStatService.getStats(project.getId()).total());
+  }
+
+  @Test
+  @DisplayName("프로젝트 삭제/복구 후 집계 테스트")
+  public void projectDeleteRestoreTest() throws Exception {
+    create(project, null, IssueType.STORY, IssueStatus.TODO, Priority.HIGH);
+    create(project, null, IssueType.BUG, IssueStatus.DONE, Priority.MEDIUM);
+    create(otherProject, null, IssueType.TASK, IssueStatus.TODO, Priority.LOW);
+
+    projectService.putProjectsDeletedFlagById(project.getId(), true);
+    assertMatchesGroupBy();
+    assertEquals(0L, projectStatService.getStats(project.getId()).total());
+
+    projectService.putProjectsDeletedFlagById(project.getId(), false);
+    assertMatchesGroupBy();
+  }
+
+  @Test
+  @DisplayName("이슈 일괄 생성 후 집계 테스트")
+  public void bulkCreateTest() throws Exception {
+    Issue parent = create(project, null, IssueType.EPIC, IssueStatus.TODO, Priority.HIGH);
+
+    issueService.setIssuesBulk(
+        List.of(
+            request(project, parent, IssueType.STORY, IssueStatus.TODO, Priority.HIGH),
+            request(project, parent, IssueType.STORY, IssueStatus.DONE, Priority.LOW),
+            request(project, null, IssueType.BUG, IssueStatus.ANALYSIS, null),
+            request(otherProject, null, IssueType.TASK, IssueStatus.TODO, Priority.MEDIUM)),
+        USERNAME);
+
+    assertMatchesGroupBy();
+    assertEquals(4L, projectStatService.getStats(project.getId()).total());
+  }
+}
@@ -0,0 +1,61 @@
+package net.devgrr.interp.ia.api.work.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.*;
+import org.roaringbitmap.RoaringBitmap;
+
+public class NgramIndexTest {
+
+  private NgramIndex index;
+
+  @BeforeEach
+  void setUp() {
+    index = new NgramIndex();
+    index.put(1L, "로그인 오류 수정");
+    index.put(2L, "회원가입 오류");
+    index.put(3L, "Login API");
+  }
+
+  private static RoaringBitmap ids(int... ids) {
+    return RoaringBitmap.bitmapOf(ids);
+  }
+
+  @Test
+  @DisplayName("검색어의 모든 bigram 을 포함하는 ID 반환 테스트")
+  public void searchTest() {
+    assertEquals(ids(1, 2), index.search("오류"));
+    assertEquals(ids(1), index.search("로그인"));
+    assertEquals(ids(3), index.search("login"));
+    assertEquals(ids(), index.search("결제"));
+  }
+
+  @Test
+  @DisplayName("2글자 미만 검색어는 후보를 좁히지 않음 테스트")
+  public void shortQueryTest() {
+    assertNull(index.search("오"));
+    assertNull(index.search(" "));
+  }
+
+  @Test
+  @DisplayName("재색인 시 이전 bigram 제거 테스트")
+  public void reindexTest() {
+    index.put(1L, "결제 모듈");
+
+    assertEquals(ids(2), index.search("오류"));
+    assertEquals(ids(1), index.search("결제"));
+
+    index.remove(1L);
+    assertEquals(ids(), index.search("결제"));
+    assertEquals(2, index.size());
+  }
+
+  @Test
+  @DisplayName("int 범위를 벗어나는 ID 가 있으면 후보를 좁히지 않음 테스트")
+  public void overflowIdTest() {
+    index.put(Integer.MAX_VALUE + 1L, "오류 보고");
+
+    assertNull(index.search("오류"));
+    assertEquals(3, index.size());
+  }
+}
@@ -0,0 +1,63 @@
+package net.devgrr.interp.ia.api.work.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.*;
+import org.roaringbitmap.RoaringBitmap;
+
+public class TagBitmapIndexTest {
+
+  private TagBitmapIndex index;
+
+  @BeforeEach
+  void setUp() {
+    index = new TagBitmapIndex();
+    index.put(1L, 10L, Set.of("backend", "bug"));
+    index.put(2L, 10L, Set.of("backend"));
+    index.put(3L, 20L, Set.of("frontend", "bug"));
+  }
+
+  @Test
+  @DisplayName("AND/OR 태그 조건 테스트")
+  public void matchTest() {
+    assertEquals(RoaringBitmap.bitmapOf(1, 2, 3), index.match(Set.of("backend", "bug"), false));
+    assertEquals(RoaringBitmap.bitmapOf(1), index.match(Set.of("backend", "bug"), true));
+    assertTrue(index.match(Set.of("backend", "none"), true).isEmpty());
+  }
+
+  @Test
+  @DisplayName("태그 변경 및 제외 처리 테스트")
+  public void updateTest() {
+    index.put(2L, 10L, Set.of("bug"));
+    index.setExcluded(List.of(3L), true);
+
+    assertEquals(RoaringBitmap.bitmapOf(1, 2), index.match(Set.of("bug"), false));
+    assertEquals(RoaringBitmap.bitmapOf(1), index.match(Set.of("backend"), false));
+
+    index.setGroupExcluded(10L, true);
+    assertTrue(index.match(Set.of("bug"), false).isEmpty());
+  }
+
+  @Test
+  @DisplayName("그룹별 태그 건수 테스트")
+  public void countTest() {
+    assertEquals(Map.of("backend", 2, "bug", 2, "frontend", 1), index.count(null));
+    assertEquals(Map.of("backend", 2, "bug", 1), index.count(10L));
+    assertEquals(List.of("backend", "bug"), List.copyOf(index.count(10L).keySet()));
+  }
+
+  @Test
+  @DisplayName("int 범위를 벗어나는 ID 색인 시 불완전 표시 테스트")
+  public void overflowIdTest() {
+    assertTrue(index.isComplete());
+
+    index.put(Integer.MAX_VALUE + 1L, 10L, Set.of("bug"));
+    index.setExcluded(List.of(Integer.MAX_VALUE + 1L), true);
+
+    assertFalse(index.isComplete());
+    assertEquals(RoaringBitmap.bitmapOf(1, 3), index.match(Set.of("bug"), false));
+  }
+}